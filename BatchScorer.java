@@ -0,0 +1,194 @@
+package business;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scores lists of Posts in parallel against trained ModelStatistics,
+ * writing estimates into a result column instead of changing the Posts
+ * (A BatchScorer that made its own pool shuts it down when closed; pools
+ * handed to it are left to their owner)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class BatchScorer implements AutoCloseable {
+
+    /* BatchScorer Values */
+
+    private static final int MIN_SLICE = 2048;
+
+
+    /* BatchScorer Variables */
+
+    private ForkJoinPool pool;
+    private boolean ownsPool;
+
+
+    /* BatchScorer Constructors */
+
+    /**
+     * Construct a BatchScorer on the common fork-join pool
+     */
+    public BatchScorer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+
+    /**
+     * Construct a BatchScorer with its own pool, which close() shuts down
+     * 
+     * @param parallelism
+     *            Number of scoring threads
+     */
+    public BatchScorer(int parallelism) {
+        this(new ForkJoinPool(parallelism), true);
+    }
+
+
+    /**
+     * Construct a BatchScorer on a given pool, which stays the caller's
+     * to shut down
+     * 
+     * @param p
+     *            Pool to score on
+     */
+    public BatchScorer(ForkJoinPool p) {
+        this(p, false);
+    }
+
+
+    /**
+     * Construct a BatchScorer
+     * 
+     * @param p
+     *            Pool to score on
+     * @param owned
+     *            If BatchScorer made the pool, and shuts it down
+     */
+    private BatchScorer(ForkJoinPool p, boolean owned) {
+        pool = p;
+        ownsPool = owned;
+    }
+
+
+    /* BatchScorer Methods */
+
+    /**
+     * Estimate Engagements of every Post
+     * 
+     * @param posts
+     *            Posts to score (should be random access)
+     * @param model
+     *            ModelStatistics calculated from training set
+     * @return Estimated Engagements by Post index
+     */
+    public int[] score(List<Post> posts, ModelStatistics model) {
+
+        int[] estimates = new int[posts.size()];
+
+        score(posts, model, estimates);
+
+        return estimates;
+    }
+
+
+    /**
+     * Estimate Engagements of every Post into an existing column
+     * 
+     * @param posts
+     *            Posts to score (should be random access)
+     * @param model
+     *            ModelStatistics calculated from training set
+     * @param estimates
+     *            Column to fill, at least as long as posts
+     */
+    public void score(
+        List<Post> posts,
+        ModelStatistics model,
+        int[] estimates) {
+
+        if (estimates.length < posts.size())
+            throw new IllegalArgumentException("Estimate column holds "
+                + estimates.length + " of " + posts.size() + " Posts");
+
+        pool.invoke(new ScoreTask(posts, model, estimates, 0, posts.size()));
+    }
+
+
+    /**
+     * Shut down the pool if BatchScorer made it, letting scoring already
+     * started finish
+     */
+    @Override
+    public void close() {
+        if (ownsPool)
+            pool.shutdown();
+    }
+
+
+    /**
+     * Scores a slice of Posts, splitting it while it is large
+     */
+    private static class ScoreTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private List<Post> posts;
+        private ModelStatistics model;
+        private int[] estimates;
+
+        private int from;
+        private int to;
+
+
+        /**
+         * Construct a task for Posts from index from to index to
+         * 
+         * @param p
+         *            Posts to score
+         * @param m
+         *            ModelStatistics to score with
+         * @param e
+         *            Column to fill
+         * @param f
+         *            First index (inclusive)
+         * @param t
+         *            Last index (exclusive)
+         */
+        private ScoreTask(
+            List<Post> p,
+            ModelStatistics m,
+            int[] e,
+            int f,
+            int t) {
+
+            posts = p;
+            model = m;
+            estimates = e;
+            from = f;
+            to = t;
+        }
+
+
+        @Override
+        protected void compute() {
+
+            if (to - from <= MIN_SLICE) {
+
+                for (int i = from; i < to; i++) {
+                    estimates[i] = posts.get(i).predictEngages(model);
+                }
+
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+
+            invokeAll(new ScoreTask(posts, model, estimates, from, middle),
+                new ScoreTask(posts, model, estimates, middle, to));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package business;
 
 import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Paths;
 /*
  * import java.util.Collections;
  * import java.util.Comparator;
@@ -15,11 +17,23 @@ import java.util.ArrayList;
  */
 public class Business {
 
+    /* Business Program values */
+
+    private static final String STREAM_OPTION = "--stream";
+    private static final String STAGED_OPTION = "--staged";
+    private static final String SNAPSHOT_OPTION = "--snapshot";
+    private static final String SAVE_MODEL_OPTION = "--save-model";
+    private static final String LOAD_MODEL_OPTION = "--load-model";
+
+    private static final String MODEL_FILE = "business.model";
+
+
     /* Business Program variables */
 
     private static PostReader postReader;
     private static PostWriter postWriter;
     private static StatFinder statFinder;
+    private static BatchScorer batchScorer;
 
     private static ArrayList<Post> trainingPosts;
     private static ArrayList<Post> holdoutPosts;
@@ -31,13 +45,35 @@ public class Business {
      * Main driver for Business Program
      * 
      * @param args
-     *            Program arguments
+     *            Program arguments ("--stream" scores the holdout file in
+     *            bounded batches instead of reading it all first,
+     *            "--staged" scores it through the parse, tokenize, score,
+     *            and write stages of a StagedPipeline, "--snapshot" loads
+     *            Posts from PostSnapshots when current,
+     *            "--save-model" saves the trained model to
+     *            "business.model", "--load-model" scores with that model
+     *            instead of training)
      */
     public static void main(String[] args) {
         postReader = new PostReader();
 
-        trainingPosts = postReader.readPostFile();
-        holdoutPosts = postReader.readHoldoutFile();
+        boolean streaming = hasOption(args, STREAM_OPTION);
+        boolean staged = hasOption(args, STAGED_OPTION);
+        boolean snapshot = hasOption(args, SNAPSHOT_OPTION);
+
+        batchScorer = new BatchScorer();
+
+        if (hasOption(args, LOAD_MODEL_OPTION)) {
+            scoreWithSavedModel(streaming, staged, snapshot);
+            return;
+        }
+
+        trainingPosts = snapshot ? postReader.readCachedPostFile()
+            : postReader.readPostFile();
+
+        if (!streaming && !staged)
+            holdoutPosts = snapshot ? postReader.readCachedHoldoutFile()
+                : postReader.readHoldoutFile();
 
         // Sorts training Post list based on highest known Engagements
         // Else, Post list is already sorted by date
@@ -53,96 +89,196 @@ public class Business {
 
         statFinder = new StatFinder(trainingPosts);
 
-        KeywordMap keywordMap = statFinder.calculateByKeyword();
+        // Keyword, hour, day, month, and Post Type ratios in one pass
+        ModelStatistics model = statFinder.calculateAll();
 
-        double[] hours = statFinder.calculateByHour();
-        double[] days = statFinder.calculateByDay();
-        double[] months = statFinder.calculateByMonth();
-        double[] types = statFinder.calculateByType();
+        if (hasOption(args, SAVE_MODEL_OPTION))
+            saveModel(model);
 
-        estimateTrainingEngagements(keywordMap, hours, days, months, types);
-        estimateHoldoutEngagements(keywordMap, hours, days, months, types);
+        estimateTrainingEngagements(model);
 
-        postWriter = new PostWriter(holdoutPosts);
+        if (staged) {
+            stageHoldoutEngagements(model);
+            return;
+        }
+
+        if (streaming) {
+            streamHoldoutEngagements(model);
+            return;
+        }
+
+        int[] holdoutEstimates = estimateHoldoutEngagements(model);
+
+        postWriter = new PostWriter(holdoutPosts, holdoutEstimates);
 
         postWriter.writeHoldoutFile();
     }
 
 
+    /**
+     * Score Holdout Posts with the model in "business.model", without
+     * reading the training set
+     * 
+     * @param streaming
+     *            If holdout file is scored in bounded batches
+     * @param staged
+     *            If holdout file is scored through a StagedPipeline
+     * @param snapshot
+     *            If holdout Posts may come from a PostSnapshot
+     */
+    private static void scoreWithSavedModel(
+        boolean streaming,
+        boolean staged,
+        boolean snapshot) {
+
+        ModelStatistics model;
+
+        try {
+            model = ModelFile.load(Paths.get(MODEL_FILE));
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        if (staged) {
+            stageHoldoutEngagements(model);
+            return;
+        }
+
+        if (streaming) {
+            streamHoldoutEngagements(model);
+            return;
+        }
+
+        holdoutPosts = snapshot ? postReader.readCachedHoldoutFile()
+            : postReader.readHoldoutFile();
+
+        postWriter = new PostWriter(holdoutPosts, estimateHoldoutEngagements(
+            model));
+
+        postWriter.writeHoldoutFile();
+    }
+
+
+    /**
+     * Save trained model to "business.model"
+     * 
+     * @param model
+     *            ModelStatistics generated from Training set
+     */
+    private static void saveModel(ModelStatistics model) {
+
+        try {
+            ModelFile.save(model, Paths.get(MODEL_FILE));
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    /**
+     * Check if an option was given to the program
+     * 
+     * @param args
+     *            Program arguments
+     * @param option
+     *            Option to look for
+     * @return If option is among args
+     */
+    private static boolean hasOption(String[] args, String option) {
+
+        for (String arg : args) {
+            if (arg.equals(option))
+                return true;
+        }
+
+        return false;
+    }
+
+
     /**
      * Estimate Engagements for training Posts using calculated
      * Engagement/Follower ratios
      * 
-     * @param keywordMap
-     *            Calculated KeywordMap
-     * @param hours
-     *            Array of calcualted hour ratios
-     * @param days
-     *            Array of calculated day of week ratios
-     * @param months
-     *            Array of calculated month ratios
-     * @param types
-     *            Array of calculated Post Type ratios
+     * @param model
+     *            ModelStatistics calculated from training set
      */
-    public static void estimateTrainingEngagements(
-        KeywordMap keywordMap,
-        double[] hours,
-        double[] days,
-        double[] months,
-        double[] types) {
+    public static void estimateTrainingEngagements(ModelStatistics model) {
 
         // Estimate Engagements for training Posts
-        for (Post post : trainingPosts) {
-            post.estimateEngages(keywordMap, hours, days, months,
-                types, "Training");
-        }
+        int[] estimates = batchScorer.score(trainingPosts, model);
 
         // MAPE testing
-        MAPEtest();
+        MAPEtest(estimates);
     }
     
     /**
      * Used to test MAPE
+     * 
+     * @param estimates
+     *            Estimated Engagements by training Post index
      */
-    private static void MAPEtest() {
-        int numPosts = trainingPosts.size();
-        
-        double sum = 0;
+    private static void MAPEtest(int[] estimates) {
+        ErrorReport report = ErrorMetrics.evaluate(trainingPosts, estimates);
 
-        for (Post post : trainingPosts) {
+        System.out.println("Training Set Estimation Test:");
+        System.out.println("MAPE: " + report.getMAPE() + '\n');
+    }
 
-            double a_i = post.getEngagements();
-            double p_i = post.getEstimation();
+    /**
+     * Estimate Holdout Posts Engagements based on Training SetS
+     * 
+     * @param model ModelStatistics generated from Training set
+     * @return Estimated Engagements by Holdout Post index
+     */
+    public static int[] estimateHoldoutEngagements(ModelStatistics model) {
+        return batchScorer.score(holdoutPosts, model);
+    }
 
-            double absCheck = Math.abs((a_i - p_i) / a_i);
 
-            sum += absCheck;
+    /**
+     * Score Holdout Posts straight from "holdout_set.csv" into
+     * "holdout_set_Kevin_M_Smith.csv", holding only a few batches at once
+     * 
+     * @param model
+     *            ModelStatistics generated from Training set
+     */
+    public static void streamHoldoutEngagements(ModelStatistics model) {
+
+        StreamingScorer scorer = new StreamingScorer(model, batchScorer,
+            StreamingScorer.DEFAULT_BATCH_SIZE,
+            StreamingScorer.DEFAULT_QUEUE_CAPACITY);
 
+        try {
+            scorer.score(Paths.get(PostReader.HOLDOUT_FILE), Paths.get(
+                PostWriter.HOLDOUT_FILE), false);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
         }
-        
-        System.out.println("Training Set Estimation Test:");
-        System.out.println("MAPE: " + ((sum / numPosts) * 100) + '\n');
     }
 
+
     /**
-     * Estimate Holdout Posts Engagements based on Training SetS
+     * Score Holdout Posts straight from "holdout_set.csv" into
+     * "holdout_set_Kevin_M_Smith.csv" through a StagedPipeline, so
+     * parsing, tokenizing, scoring, and writing overlap
      * 
-     * @param keywordMap Filled KeywordMap
-     * @param hours Hour ratios generated from Training set
-     * @param days Day ratios generated from Training set
-     * @param months Month ratios generated from Training set
-     * @param types Post Type ratios generated from Training set
+     * @param model
+     *            ModelStatistics generated from Training set
      */
-    public static void estimateHoldoutEngagements(
-        KeywordMap keywordMap,
-        double[] hours,
-        double[] days,
-        double[] months,
-        double[] types) {
-
-        for (Post post : holdoutPosts) {
-            post.estimateEngages(keywordMap, hours, days, months, types,
-                "Holdout");
+    public static void stageHoldoutEngagements(ModelStatistics model) {
+
+        StagedPipeline pipeline = new StagedPipeline(model);
+
+        try {
+            pipeline.run(Paths.get(PostReader.HOLDOUT_FILE), Paths.get(
+                PostWriter.HOLDOUT_FILE), false);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
         }
     }
 }
@@ -0,0 +1,191 @@
+package business;
+
+/**
+ * Immutable set of weights given to each Post criteria ratio when
+ * estimating Engagements
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class CriteriaWeights {
+
+    /* CriteriaWeights Values */
+
+    // -> Video types have far more engagements than photo+album
+    // -> Significant keywords such as @kingjames and @stephencurry
+    //      generate more engagements
+    public static final CriteriaWeights DEFAULT = new CriteriaWeights(
+        4.712, // Type, Optimal: 4.712
+        0.0001, // Day, Optimal: 0.00001
+        0.0005, // Time, Optimal: 0.0005
+        0.0009, // Month, Optimal: 0.0009
+        0.476); // Keyword, Optimal: 0.4756
+
+    public static final int TYPE = 0, DAY = 1, TIME = 2, MONTH = 3,
+        KEYWORD = 4;
+    public static final int NUM_WEIGHTS = 5;
+
+
+    /* CriteriaWeights Variables */
+
+    private final double typeWeight;
+    private final double dayWeight;
+    private final double timeWeight;
+    private final double monthWeight;
+    private final double keywordWeight;
+
+
+    /* CriteriaWeights Constructors */
+
+    /**
+     * Construct CriteriaWeights
+     * 
+     * @param type
+     *            Post Type weight
+     * @param day
+     *            Day of week weight
+     * @param time
+     *            Hour weight
+     * @param month
+     *            Month weight
+     * @param keyword
+     *            Keyword weight
+     */
+    public CriteriaWeights(
+        double type,
+        double day,
+        double time,
+        double month,
+        double keyword) {
+
+        typeWeight = type;
+        dayWeight = day;
+        timeWeight = time;
+        monthWeight = month;
+        keywordWeight = keyword;
+    }
+
+
+    /**
+     * Construct CriteriaWeights from an array in TYPE, DAY, TIME, MONTH,
+     * KEYWORD order
+     * 
+     * @param weights
+     *            Array of NUM_WEIGHTS weights
+     */
+    public CriteriaWeights(double[] weights) {
+        this(weights[TYPE], weights[DAY], weights[TIME], weights[MONTH],
+            weights[KEYWORD]);
+    }
+
+
+    /* CriteriaWeights Methods */
+
+    /**
+     * Get Post Type weight
+     * 
+     * @return Post Type weight
+     */
+    public double getTypeWeight() {
+        return typeWeight;
+    }
+
+
+    /**
+     * Get day of week weight
+     * 
+     * @return Day of week weight
+     */
+    public double getDayWeight() {
+        return dayWeight;
+    }
+
+
+    /**
+     * Get hour weight
+     * 
+     * @return Hour weight
+     */
+    public double getTimeWeight() {
+        return timeWeight;
+    }
+
+
+    /**
+     * Get month weight
+     * 
+     * @return Month weight
+     */
+    public double getMonthWeight() {
+        return monthWeight;
+    }
+
+
+    /**
+     * Get keyword weight
+     * 
+     * @return Keyword weight
+     */
+    public double getKeywordWeight() {
+        return keywordWeight;
+    }
+
+
+    /**
+     * Estimate Engagements by averaging weighted criteria ratios with
+     * weighted keyword ratios
+     * (Post, FeatureMatrix, and EngagementScorer all estimate through here)
+     * 
+     * @param followers
+     *            Followers at time of Post
+     * @param dayRatio
+     *            Day of week ratio
+     * @param typeRatio
+     *            Post Type ratio
+     * @param hourRatio
+     *            Hour ratio
+     * @param monthRatio
+     *            Month ratio
+     * @param keywordSum
+     *            Sum of ratios of trained keywords in the Description
+     * @param keywordCount
+     *            Number of trained keywords in the Description
+     * @return Estimated Engagements
+     */
+    public int estimate(
+        double followers,
+        double dayRatio,
+        double typeRatio,
+        double hourRatio,
+        double monthRatio,
+        double keywordSum,
+        double keywordCount) {
+
+        double total = dayRatio * dayWeight + typeRatio * typeWeight
+            + hourRatio * timeWeight + monthRatio * monthWeight + keywordSum
+                * keywordWeight;
+
+        return (int)(total / (Post.INITIAL_CRITERIA + keywordCount)
+            * followers);
+    }
+
+
+    /**
+     * Get weights as an array in TYPE, DAY, TIME, MONTH, KEYWORD order
+     * 
+     * @return Array of weights
+     */
+    public double[] toArray() {
+        return new double[] { typeWeight, dayWeight, timeWeight, monthWeight,
+            keywordWeight };
+    }
+
+
+    @Override
+    public String toString() {
+        return "type=" + typeWeight + ", day=" + dayWeight + ", time="
+            + timeWeight + ", month=" + monthWeight + ", keyword="
+            + keywordWeight;
+    }
+}
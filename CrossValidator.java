@@ -0,0 +1,384 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Cross-validates the model by training StatFinder on part of the
+ * training Posts and scoring the held out part, with folds run
+ * concurrently over the same parsed and tokenized Posts
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class CrossValidator {
+
+    /* CrossValidator Values */
+
+    private static final int DEFAULT_FOLDS = 5;
+    private static final long DEFAULT_SEED = 7;
+
+    /**
+     * How Posts are split into folds
+     */
+    public enum Split {
+        // Posts shuffled into k folds, each scored by a model of the rest
+        K_FOLD,
+        // Posts in date order, each fold scored by a model of all before it
+        TIME_SERIES
+    }
+
+
+    /* CrossValidator Variables */
+
+    private List<Post> posts;
+    private ForkJoinPool pool;
+
+
+    /* CrossValidator Constructors */
+
+    /**
+     * Construct a CrossValidator on the common fork-join pool
+     * 
+     * @param p
+     *            Posts with known Engagements
+     */
+    public CrossValidator(List<Post> p) {
+        this(p, ForkJoinPool.commonPool());
+    }
+
+
+    /**
+     * Construct a CrossValidator on a given pool
+     * 
+     * @param p
+     *            Posts with known Engagements
+     * @param fjp
+     *            Pool to run folds on
+     */
+    public CrossValidator(List<Post> p, ForkJoinPool fjp) {
+        posts = p;
+        pool = fjp;
+    }
+
+
+    /* CrossValidator Methods */
+
+    /**
+     * Main method, prints cross-validated error of the training set
+     * 
+     * @param args
+     *            Optional number of folds
+     */
+    public static void main(String[] args) {
+
+        int folds = args.length > 0 ? Integer.parseInt(args[0])
+            : DEFAULT_FOLDS;
+
+        CrossValidator validator = new CrossValidator(new PostReader()
+            .readPostFile());
+
+        for (Split split : Split.values()) {
+
+            Result result = validator.validate(split, folds, DEFAULT_SEED,
+                CriteriaWeights.DEFAULT);
+
+            System.out.println(split + " (" + folds + " folds):");
+
+            for (int f = 0; f < result.getFoldCount(); f++) {
+                System.out.println("  Fold " + (f + 1) + ": " + result
+                    .getFoldReport(f));
+            }
+
+            System.out.println("  Pooled: " + result.getPooledReport());
+            System.out.println("  Mean MAPE: " + result.getMeanMAPE() + '\n');
+        }
+    }
+
+
+    /**
+     * Cross-validate the model
+     * 
+     * @param split
+     *            How Posts are split into folds
+     * @param folds
+     *            Number of folds (at least 2 for K_FOLD)
+     * @param seed
+     *            Shuffle seed for K_FOLD
+     * @param weights
+     *            Criteria weights to estimate with
+     * @return Error of each fold and of all folds together
+     */
+    public Result validate(
+        Split split,
+        int folds,
+        long seed,
+        CriteriaWeights weights) {
+
+        if (folds < (split == Split.K_FOLD ? 2 : 1))
+            throw new IllegalArgumentException("Too few folds: " + folds);
+
+        // Tokenize once up front, every fold reuses the memoized IDs
+        pool.submit(() -> posts.parallelStream().forEach(
+            Post::getKeywordIds)).join();
+
+        int[][] trainSets = new int[folds][];
+        int[][] testSets = new int[folds][];
+
+        if (split == Split.K_FOLD)
+            splitKFold(folds, seed, trainSets, testSets);
+        else
+            splitTimeSeries(folds, trainSets, testSets);
+
+        List<Callable<ErrorMetrics>> tasks =
+            new ArrayList<Callable<ErrorMetrics>>(folds);
+
+        for (int f = 0; f < folds; f++) {
+
+            int[] train = trainSets[f];
+            int[] test = testSets[f];
+
+            tasks.add(() -> runFold(train, test, weights));
+        }
+
+        ErrorMetrics[] foldMetrics = new ErrorMetrics[folds];
+
+        try {
+            List<Future<ErrorMetrics>> futures = pool.invokeAll(tasks);
+
+            for (int f = 0; f < folds; f++) {
+                foldMetrics[f] = futures.get(f).get();
+            }
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return new Result(foldMetrics);
+    }
+
+
+    /**
+     * Train on one set of Posts and measure error on another
+     * 
+     * @param train
+     *            Indices of training Posts
+     * @param test
+     *            Indices of Posts to score
+     * @param weights
+     *            Criteria weights to estimate with
+     * @return Error of scored Posts
+     */
+    private ErrorMetrics runFold(
+        int[] train,
+        int[] test,
+        CriteriaWeights weights) {
+
+        ArrayList<Post> trainPosts = new ArrayList<Post>(train.length);
+
+        for (int i : train) {
+            trainPosts.add(posts.get(i));
+        }
+
+        ModelStatistics model = new StatFinder(trainPosts).calculateAll();
+
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        for (int i : test) {
+            Post post = posts.get(i);
+            metrics.add(post, post.predictEngages(model, weights));
+        }
+
+        return metrics;
+    }
+
+
+    /**
+     * Shuffle Posts into k folds of (nearly) equal size
+     * 
+     * @param folds
+     *            Number of folds
+     * @param seed
+     *            Shuffle seed
+     * @param trainSets
+     *            Filled with training indices of each fold
+     * @param testSets
+     *            Filled with test indices of each fold
+     */
+    private void splitKFold(
+        int folds,
+        long seed,
+        int[][] trainSets,
+        int[][] testSets) {
+
+        int n = posts.size();
+        int[] order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        Random random = new Random(seed);
+
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        for (int f = 0; f < folds; f++) {
+
+            int from = (int)((long)n * f / folds);
+            int to = (int)((long)n * (f + 1) / folds);
+
+            testSets[f] = Arrays.copyOfRange(order, from, to);
+
+            trainSets[f] = new int[n - (to - from)];
+            System.arraycopy(order, 0, trainSets[f], 0, from);
+            System.arraycopy(order, to, trainSets[f], from, n - to);
+        }
+    }
+
+
+    /**
+     * Sort Posts by date into folds + 1 blocks, fold f trains on blocks
+     * 0 to f and is scored on block f + 1
+     * 
+     * @param folds
+     *            Number of folds
+     * @param trainSets
+     *            Filled with training indices of each fold
+     * @param testSets
+     *            Filled with test indices of each fold
+     */
+    private void splitTimeSeries(
+        int folds,
+        int[][] trainSets,
+        int[][] testSets) {
+
+        int n = posts.size();
+
+        Integer[] boxed = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+
+        Arrays.sort(boxed, Comparator.comparing(i -> posts.get(i)
+            .getDateTime()));
+
+        int[] order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            order[i] = boxed[i];
+        }
+
+        int blocks = folds + 1;
+
+        for (int f = 0; f < folds; f++) {
+
+            int from = (int)((long)n * (f + 1) / blocks);
+            int to = (int)((long)n * (f + 2) / blocks);
+
+            trainSets[f] = Arrays.copyOfRange(order, 0, from);
+            testSets[f] = Arrays.copyOfRange(order, from, to);
+        }
+    }
+
+
+    /**
+     * Error of each fold and of every fold's estimates pooled together
+     */
+    public static final class Result {
+
+        private final ErrorReport[] foldReports;
+        private final ErrorReport pooledReport;
+
+
+        /**
+         * Construct a Result from each fold's ErrorMetrics
+         * 
+         * @param foldMetrics
+         *            ErrorMetrics by fold
+         */
+        private Result(ErrorMetrics[] foldMetrics) {
+
+            foldReports = new ErrorReport[foldMetrics.length];
+
+            ErrorMetrics pooled = new ErrorMetrics();
+
+            for (int f = 0; f < foldMetrics.length; f++) {
+                foldReports[f] = foldMetrics[f].toReport();
+                pooled.merge(foldMetrics[f]);
+            }
+
+            pooledReport = pooled.toReport();
+        }
+
+
+        /**
+         * Get number of folds
+         * 
+         * @return Number of folds
+         */
+        public int getFoldCount() {
+            return foldReports.length;
+        }
+
+
+        /**
+         * Get error of one fold
+         * 
+         * @param fold
+         *            Fold index
+         * @return ErrorReport of fold
+         */
+        public ErrorReport getFoldReport(int fold) {
+            return foldReports[fold];
+        }
+
+
+        /**
+         * Get error of every fold's estimates together
+         * 
+         * @return Pooled ErrorReport
+         */
+        public ErrorReport getPooledReport() {
+            return pooledReport;
+        }
+
+
+        /**
+         * Get average of the fold MAPEs, folds without a MAPE are skipped
+         * 
+         * @return Mean fold MAPE as a percentage
+         */
+        public double getMeanMAPE() {
+
+            double sum = 0.0;
+            int counted = 0;
+
+            for (ErrorReport report : foldReports) {
+                if (!Double.isNaN(report.getMAPE())) {
+                    sum += report.getMAPE();
+                    counted++;
+                }
+            }
+
+            return counted == 0 ? Double.NaN : sum / counted;
+        }
+    }
+}
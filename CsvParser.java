@@ -0,0 +1,386 @@
+package business;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming RFC-4180 parser that reads CSV records in a single pass
+ * (Quoted fields may hold commas, escaped quotes, and line breaks)
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class CsvParser implements Closeable {
+
+    /* CsvParser Values */
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_FIELDS = 8;
+
+    private static final char COMMA = ',';
+    private static final char QUOTE = '"';
+    private static final char CR = '\r';
+    private static final char LF = '\n';
+
+
+    /* CsvParser Variables */
+
+    private Reader reader;
+
+    private char[] buffer;
+    private int position;
+    private int limit;
+
+    private StringBuilder record;
+    private int[] fieldEnds;
+    private int fieldCount;
+
+
+    /* CsvParser Constructor */
+
+    /**
+     * Construct a CsvParser over a character stream
+     *
+     * @param r
+     *            Reader to parse records from
+     */
+    public CsvParser(Reader r) {
+        reader = r;
+
+        buffer = new char[BUFFER_SIZE];
+        position = 0;
+        limit = 0;
+
+        record = new StringBuilder(256);
+        fieldEnds = new int[INITIAL_FIELDS];
+        fieldCount = 0;
+    }
+
+
+    /* CsvParser Methods */
+
+    /**
+     * Advance to the next record, blank lines are skipped
+     *
+     * @return If a record was read
+     * @throws IOException
+     *             If the underlying Reader fails
+     */
+    public boolean nextRecord() throws IOException {
+
+        record.setLength(0);
+        fieldCount = 0;
+
+        boolean started = false;
+        boolean quoted = false;
+        int fieldStart = 0;
+
+        while (true) {
+
+            if (position == limit && !fill()) {
+                if (!started)
+                    return false;
+
+                endField();
+                return true;
+            }
+
+            char c = buffer[position++];
+
+            if (quoted) {
+                if (c != QUOTE)
+                    record.append(c);
+                else if (peek() == QUOTE) {
+                    position++;
+                    record.append(QUOTE);
+                }
+                else
+                    quoted = false;
+                continue;
+            }
+
+            if (c == COMMA) {
+                endField();
+                fieldStart = record.length();
+                started = true;
+            }
+            else if (c == QUOTE && record.length() == fieldStart) {
+                quoted = true;
+                started = true;
+            }
+            else if (c == CR || c == LF) {
+                if (c == CR && peek() == LF)
+                    position++;
+
+                if (!started)
+                    continue;
+
+                endField();
+                return true;
+            }
+            else {
+                record.append(c);
+                started = true;
+            }
+        }
+    }
+
+
+    /**
+     * Get number of fields in current record
+     *
+     * @return Field count
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+
+    /**
+     * Get length of a field in current record
+     *
+     * @param field
+     *            Field index
+     * @return Field length
+     */
+    public int getFieldLength(int field) {
+        return fieldEnds[field] - fieldStart(field);
+    }
+
+
+    /**
+     * Get a character of a field in current record
+     *
+     * @param field
+     *            Field index
+     * @param index
+     *            Character index within field
+     * @return Character at index
+     */
+    public char charAt(int field, int index) {
+        return record.charAt(fieldStart(field) + index);
+    }
+
+
+    /**
+     * Get a field in current record as a String
+     *
+     * @param field
+     *            Field index
+     * @return Field value
+     */
+    public String getField(int field) {
+        return record.substring(fieldStart(field), fieldEnds[field]);
+    }
+
+
+    /**
+     * Get part of a field in current record as a String
+     *
+     * @param field
+     *            Field index
+     * @param from
+     *            First character index (inclusive)
+     * @param to
+     *            Last character index (exclusive)
+     * @return Field substring
+     */
+    public String getField(int field, int from, int to) {
+        int start = fieldStart(field);
+
+        return record.substring(start + from, start + to);
+    }
+
+
+    /**
+     * Get every field from a given field on, joined back with commas
+     * (Recovers unquoted values that contained commas)
+     *
+     * @param field
+     *            First field index
+     * @return Joined field values
+     */
+    public String getFieldsFrom(int field) {
+        if (field == fieldCount - 1)
+            return getField(field);
+
+        return joinFields(field);
+    }
+
+
+    /**
+     * Check if a field in current record equals a String
+     *
+     * @param field
+     *            Field index
+     * @param value
+     *            Value to compare
+     * @return If field equals value
+     */
+    public boolean fieldEquals(int field, String value) {
+
+        int start = fieldStart(field);
+        int length = fieldEnds[field] - start;
+
+        if (length != value.length())
+            return false;
+
+        for (int i = 0; i < length; i++) {
+            if (record.charAt(start + i) != value.charAt(i))
+                return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Parse an integer field without allocating
+     *
+     * @param field
+     *            Field index
+     * @param missing
+     *            Value returned for an empty field
+     * @return Parsed integer
+     * @throws NumberFormatException
+     *             If field is not a non-negative integer
+     */
+    public int getInt(int field, int missing) {
+
+        if (getFieldLength(field) == 0)
+            return missing;
+
+        return getInt(field, 0, getFieldLength(field));
+    }
+
+
+    /**
+     * Parse digits within a field without allocating
+     *
+     * @param field
+     *            Field index
+     * @param from
+     *            First character index (inclusive)
+     * @param to
+     *            Last character index (exclusive)
+     * @return Parsed integer
+     * @throws NumberFormatException
+     *             If range holds anything but digits
+     */
+    public int getInt(int field, int from, int to) {
+
+        int start = fieldStart(field);
+
+        if (from >= to || start + to > fieldEnds[field])
+            throw new NumberFormatException("Bad range in field " + field);
+
+        int value = 0;
+
+        for (int i = start + from; i < start + to; i++) {
+
+            int digit = record.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9)
+                throw new NumberFormatException(getField(field));
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+
+    /**
+     * Close the underlying Reader
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+
+    /**
+     * Get start offset of a field within record buffer
+     *
+     * @param field
+     *            Field index
+     * @return Start offset
+     */
+    private int fieldStart(int field) {
+        return field == 0 ? 0 : fieldEnds[field - 1];
+    }
+
+
+    /**
+     * Mark end of current field
+     */
+    private void endField() {
+
+        if (fieldCount == fieldEnds.length) {
+            int[] grown = new int[fieldEnds.length * 2];
+            System.arraycopy(fieldEnds, 0, grown, 0, fieldCount);
+            fieldEnds = grown;
+        }
+
+        fieldEnds[fieldCount++] = record.length();
+    }
+
+
+    /**
+     * Join fields from given field on with commas
+     *
+     * @param field
+     *            First field index
+     * @return Joined fields
+     */
+    private String joinFields(int field) {
+
+        StringBuilder joined = new StringBuilder(getField(field));
+
+        for (int i = field + 1; i < fieldCount; i++) {
+            joined.append(COMMA);
+            joined.append(record, fieldStart(i), fieldEnds[i]);
+        }
+
+        return joined.toString();
+    }
+
+
+    /**
+     * Look at next character without consuming it
+     *
+     * @return Next character, or -1 at end of stream
+     * @throws IOException
+     *             If the underlying Reader fails
+     */
+    private int peek() throws IOException {
+
+        if (position == limit && !fill())
+            return -1;
+
+        return buffer[position];
+    }
+
+
+    /**
+     * Refill character buffer
+     *
+     * @return If any characters were read
+     * @throws IOException
+     *             If the underlying Reader fails
+     */
+    private boolean fill() throws IOException {
+
+        int read = reader.read(buffer, 0, buffer.length);
+
+        while (read == 0)
+            read = reader.read(buffer, 0, buffer.length);
+
+        position = 0;
+        limit = Math.max(read, 0);
+
+        return read > 0;
+    }
+}
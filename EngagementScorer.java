@@ -0,0 +1,183 @@
+package business;
+
+import java.time.LocalDateTime;
+
+/**
+ * Thread-safe scorer of single candidate Posts against trained
+ * ModelStatistics
+ * (Trained keywords are copied into a private KeywordDictionary that is
+ * never added to after construction, so scoring only probes it without
+ * locking and never touches the shared one; each call tokenizes with a
+ * tokenizer of its own, and estimates equal Post.predictEngages)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class EngagementScorer {
+
+    /* EngagementScorer Variables */
+
+    private final ModelStatistics model;
+    private final CriteriaWeights weights;
+
+    // Trained keywords only, and their ratios by private ID
+    private final KeywordDictionary keywords;
+    private final double[] ratios;
+
+
+    /* EngagementScorer Constructors */
+
+    /**
+     * Construct an EngagementScorer using the default criteria weights
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     */
+    public EngagementScorer(ModelStatistics m) {
+        this(m, CriteriaWeights.DEFAULT);
+    }
+
+
+    /**
+     * Construct an EngagementScorer
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     * @param w
+     *            Criteria weights
+     */
+    public EngagementScorer(ModelStatistics m, CriteriaWeights w) {
+
+        model = m;
+        weights = w;
+
+        double[] trained = m.keywordRatios();
+        KeywordDictionary shared = KeywordDictionary.getShared();
+
+        int count = 0;
+
+        for (double ratio : trained) {
+            if (!Double.isNaN(ratio))
+                count++;
+        }
+
+        keywords = new KeywordDictionary();
+        ratios = new double[count];
+
+        for (int id = 0; id < trained.length; id++) {
+            if (!Double.isNaN(trained[id]))
+                ratios[keywords.intern(shared.getKeyword(id))] = trained[id];
+        }
+    }
+
+
+    /* EngagementScorer Methods */
+
+    /**
+     * Get ModelStatistics scored against
+     * 
+     * @return ModelStatistics
+     */
+    public ModelStatistics getModel() {
+        return model;
+    }
+
+
+    /**
+     * Get criteria weights scored with
+     * 
+     * @return Criteria weights
+     */
+    public CriteriaWeights getWeights() {
+        return weights;
+    }
+
+
+    /**
+     * Estimate Engagements of a candidate Post
+     * 
+     * @param followers
+     *            Followers at time of Post
+     * @param dateTime
+     *            Planned local Date/Time
+     * @param type
+     *            Post Type
+     * @param description
+     *            Post Description
+     * @return Estimated Engagements
+     */
+    public int score(
+        int followers,
+        LocalDateTime dateTime,
+        PostType type,
+        CharSequence description) {
+
+        KeywordTotals totals = new KeywordTotals(keywords, ratios);
+
+        new KeywordTokenizer().tokenize(description, totals);
+
+        return weights.estimate(followers, model.getDayRatio(dateTime
+            .getDayOfWeek()), model.getTypeRatio(type), model.getHourRatio(
+                dateTime.getHour()), model.getMonthRatio(dateTime
+                    .getMonthValue()), totals.sum, totals.count);
+    }
+
+
+    /**
+     * Estimate Engagements of a Post
+     * 
+     * @param post
+     *            Post to score
+     * @return Estimated Engagements
+     */
+    public int score(Post post) {
+        return score(post.getFollowers(), post.getDateTime(), post
+            .getPostType(), post.getDescriptionText());
+    }
+
+
+    /**
+     * Adds up the ratios of trained keywords in one Description
+     */
+    private static class KeywordTotals
+        implements KeywordTokenizer.KeywordSink {
+
+        private final KeywordDictionary dictionary;
+        private final double[] ratios;
+
+        private double sum;
+        private double count;
+
+
+        /**
+         * Construct KeywordTotals
+         * 
+         * @param trained
+         *            Scorer's dictionary of trained keywords
+         * @param keywordRatios
+         *            Keyword ratios by ID in trained
+         */
+        private KeywordTotals(
+            KeywordDictionary trained,
+            double[] keywordRatios) {
+
+            dictionary = trained;
+            ratios = keywordRatios;
+        }
+
+
+        @Override
+        public void keyword(char[] chars, int length) {
+
+            int id = dictionary.lookup(chars, length);
+
+            // Holdout Posts may mention keywords never seen in training
+            if (id == KeywordDictionary.NOT_FOUND)
+                return;
+
+            count += 1.0;
+            sum += ratios[id];
+        }
+    }
+}
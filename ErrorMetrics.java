@@ -0,0 +1,284 @@
+package business;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates estimation error of Posts in a single streaming pass
+ * (Totals are kept overall, by Post Type, and by hour, and partial
+ * ErrorMetrics built over slices of Posts can be merged in any grouping;
+ * estimates of Posts with unknown (negative) Engagements are skipped, and
+ * MAPE also skips Posts with no Engagements)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class ErrorMetrics {
+
+    /* ErrorMetrics Values */
+
+    // Totals are kept for groups: overall, each Post Type, each hour
+    private static final int OVERALL = 0;
+    private static final int FIRST_TYPE = 1;
+    private static final int FIRST_HOUR = FIRST_TYPE
+        + ModelStatistics.NUM_TYPES;
+    private static final int NUM_GROUPS = FIRST_HOUR + ModelStatistics.HOURS;
+
+
+    /* ErrorMetrics Variables */
+
+    private long[] counts;
+    private long[] percentCounts;
+    private long[] symmetricCounts;
+
+    private double[] percentSums;
+    private double[] symmetricSums;
+    private double[] absoluteSums;
+    private double[] squaredSums;
+
+
+    /* ErrorMetrics Constructor */
+
+    /**
+     * Construct empty ErrorMetrics
+     */
+    public ErrorMetrics() {
+        counts = new long[NUM_GROUPS];
+        percentCounts = new long[NUM_GROUPS];
+        symmetricCounts = new long[NUM_GROUPS];
+
+        percentSums = new double[NUM_GROUPS];
+        symmetricSums = new double[NUM_GROUPS];
+        absoluteSums = new double[NUM_GROUPS];
+        squaredSums = new double[NUM_GROUPS];
+    }
+
+
+    /* ErrorMetrics Methods */
+
+    /**
+     * Measure error of estimates for a list of Posts in order
+     * 
+     * @param posts
+     *            Posts with known Engagements
+     * @param estimates
+     *            Estimated Engagements by Post index
+     * @return ErrorReport of estimates
+     */
+    public static ErrorReport evaluate(List<Post> posts, int[] estimates) {
+
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        for (int i = 0; i < posts.size(); i++) {
+            metrics.add(posts.get(i), estimates[i]);
+        }
+
+        return metrics.toReport();
+    }
+
+
+    /**
+     * Measure error of estimates for a list of Posts in parallel
+     * (Sums may differ from evaluate() in the last bits since they are
+     * added in a different order)
+     * 
+     * @param posts
+     *            Posts with known Engagements
+     * @param estimates
+     *            Estimated Engagements by Post index
+     * @return ErrorReport of estimates
+     */
+    public static ErrorReport evaluateParallel(
+        List<Post> posts,
+        int[] estimates) {
+
+        return IntStream.range(0, posts.size()).parallel().collect(
+            ErrorMetrics::new, (metrics, i) -> metrics.add(posts.get(i),
+                estimates[i]), ErrorMetrics::merge).toReport();
+    }
+
+
+    /**
+     * Add a Post's estimate
+     * 
+     * @param post
+     *            Post with known Engagements
+     * @param estimate
+     *            Estimated Engagements
+     */
+    public void add(Post post, int estimate) {
+        add(post.getEngagements(), estimate, ModelStatistics.typeIndex(post
+            .getPostType()), post.getDateTime().getHour());
+    }
+
+
+    /**
+     * Add an estimate, unless Engagements are unknown
+     * 
+     * @param actual
+     *            Known Engagements, negative if unknown
+     * @param estimate
+     *            Estimated Engagements
+     * @param type
+     *            Post Type index, or -1 to leave out of Post Type totals
+     * @param hour
+     *            Hour posted, or -1 to leave out of hour totals
+     */
+    public void add(double actual, double estimate, int type, int hour) {
+
+        // Holdout Posts carry -1 for Engagements not yet known
+        if (actual < 0)
+            return;
+
+        addTo(OVERALL, actual, estimate);
+
+        if (type >= 0 && type < ModelStatistics.NUM_TYPES)
+            addTo(FIRST_TYPE + type, actual, estimate);
+
+        if (hour >= 0 && hour < ModelStatistics.HOURS)
+            addTo(FIRST_HOUR + hour, actual, estimate);
+    }
+
+
+    /**
+     * Merge totals of other ErrorMetrics into these
+     * 
+     * @param other
+     *            ErrorMetrics to merge in
+     * @return These ErrorMetrics
+     */
+    public ErrorMetrics merge(ErrorMetrics other) {
+
+        for (int g = 0; g < NUM_GROUPS; g++) {
+            counts[g] += other.counts[g];
+            percentCounts[g] += other.percentCounts[g];
+            symmetricCounts[g] += other.symmetricCounts[g];
+
+            percentSums[g] += other.percentSums[g];
+            symmetricSums[g] += other.symmetricSums[g];
+            absoluteSums[g] += other.absoluteSums[g];
+            squaredSums[g] += other.squaredSums[g];
+        }
+
+        return this;
+    }
+
+
+    /**
+     * Get number of estimates added with known Engagements
+     * 
+     * @return Number of estimates
+     */
+    public long getCount() {
+        return counts[OVERALL];
+    }
+
+
+    /**
+     * Get MAPE (as a percentage) of estimates added so far
+     * 
+     * @return MAPE, NaN if no estimate had non-zero Engagements
+     */
+    public double getMAPE() {
+        return percent(percentSums[OVERALL], percentCounts[OVERALL]);
+    }
+
+
+    /**
+     * Make an ErrorReport of estimates added so far
+     * 
+     * @return ErrorReport with Post Type and hour breakdowns
+     */
+    public ErrorReport toReport() {
+
+        ErrorReport[] types = new ErrorReport[ModelStatistics.NUM_TYPES];
+
+        for (int t = 0; t < types.length; t++) {
+            types[t] = groupReport(FIRST_TYPE + t, null, null);
+        }
+
+        ErrorReport[] hours = new ErrorReport[ModelStatistics.HOURS];
+
+        for (int h = 0; h < hours.length; h++) {
+            hours[h] = groupReport(FIRST_HOUR + h, null, null);
+        }
+
+        return groupReport(OVERALL, types, hours);
+    }
+
+
+    /**
+     * Add an estimate to one group's totals
+     * 
+     * @param g
+     *            Group index
+     * @param actual
+     *            Known Engagements
+     * @param estimate
+     *            Estimated Engagements
+     */
+    private void addTo(int g, double actual, double estimate) {
+
+        double error = actual - estimate;
+        double absolute = Math.abs(error);
+
+        counts[g]++;
+        absoluteSums[g] += absolute;
+        squaredSums[g] += error * error;
+
+        // Percentage error is undefined without Engagements
+        if (actual != 0) {
+            percentSums[g] += Math.abs(error / actual);
+            percentCounts[g]++;
+        }
+
+        double scale = (Math.abs(actual) + Math.abs(estimate)) / 2;
+
+        if (scale != 0) {
+            symmetricSums[g] += absolute / scale;
+            symmetricCounts[g]++;
+        }
+    }
+
+
+    /**
+     * Make an ErrorReport of one group
+     * 
+     * @param g
+     *            Group index
+     * @param types
+     *            Post Type breakdown, or null
+     * @param hours
+     *            Hour breakdown, or null
+     * @return ErrorReport of group
+     */
+    private ErrorReport groupReport(
+        int g,
+        ErrorReport[] types,
+        ErrorReport[] hours) {
+
+        long n = counts[g];
+
+        double mape = percent(percentSums[g], percentCounts[g]);
+        double smape = percent(symmetricSums[g], symmetricCounts[g]);
+        double mae = n == 0 ? Double.NaN : absoluteSums[g] / n;
+        double rmse = n == 0 ? Double.NaN : Math.sqrt(squaredSums[g] / n);
+
+        return new ErrorReport(n, mape, smape, mae, rmse, types, hours);
+    }
+
+
+    /**
+     * Average a sum as a percentage
+     * 
+     * @param sum
+     *            Sum of fractional errors
+     * @param n
+     *            Number of errors summed
+     * @return Average as a percentage, NaN if n is 0
+     */
+    private static double percent(double sum, long n) {
+        return n == 0 ? Double.NaN : (sum / n) * 100;
+    }
+}
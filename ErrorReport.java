@@ -0,0 +1,157 @@
+package business;
+
+/**
+ * Immutable summary of estimation error, made by ErrorMetrics
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class ErrorReport {
+
+    /* ErrorReport Variables */
+
+    private final long count;
+    private final double mape;
+    private final double smape;
+    private final double mae;
+    private final double rmse;
+
+    private final ErrorReport[] types;
+    private final ErrorReport[] hours;
+
+
+    /* ErrorReport Constructor */
+
+    /**
+     * Construct an ErrorReport
+     * 
+     * @param n
+     *            Number of estimates
+     * @param mapePercent
+     *            Mean absolute percentage error
+     * @param smapePercent
+     *            Symmetric mean absolute percentage error
+     * @param meanAbsolute
+     *            Mean absolute error
+     * @param rootMeanSquare
+     *            Root mean squared error
+     * @param byType
+     *            Reports by Post Type index, or null
+     * @param byHour
+     *            Reports by hour, or null
+     */
+    ErrorReport(
+        long n,
+        double mapePercent,
+        double smapePercent,
+        double meanAbsolute,
+        double rootMeanSquare,
+        ErrorReport[] byType,
+        ErrorReport[] byHour) {
+
+        count = n;
+        mape = mapePercent;
+        smape = smapePercent;
+        mae = meanAbsolute;
+        rmse = rootMeanSquare;
+
+        types = byType;
+        hours = byHour;
+    }
+
+
+    /* ErrorReport Methods */
+
+    /**
+     * Get number of estimates
+     * 
+     * @return Number of estimates
+     */
+    public long getCount() {
+        return count;
+    }
+
+
+    /**
+     * Get mean absolute percentage error, Posts without Engagements are
+     * left out
+     * 
+     * @return MAPE as a percentage, NaN if undefined
+     */
+    public double getMAPE() {
+        return mape;
+    }
+
+
+    /**
+     * Get symmetric mean absolute percentage error
+     * 
+     * @return sMAPE as a percentage (0 to 200), NaN if undefined
+     */
+    public double getSMAPE() {
+        return smape;
+    }
+
+
+    /**
+     * Get mean absolute error
+     * 
+     * @return MAE in Engagements, NaN if there are no estimates
+     */
+    public double getMAE() {
+        return mae;
+    }
+
+
+    /**
+     * Get root mean squared error
+     * 
+     * @return RMSE in Engagements, NaN if there are no estimates
+     */
+    public double getRMSE() {
+        return rmse;
+    }
+
+
+    /**
+     * Get report for one Post Type
+     * 
+     * @param type
+     *            Post Type
+     * @return ErrorReport of Post Type, or null if unknown or this is
+     *         already a breakdown
+     */
+    public ErrorReport getTypeReport(PostType type) {
+
+        int index = ModelStatistics.typeIndex(type);
+
+        if (types == null || index < 0)
+            return null;
+
+        return types[index];
+    }
+
+
+    /**
+     * Get report for one hour
+     * 
+     * @param hour
+     *            Hour of day (0 - 23)
+     * @return ErrorReport of hour, or null if this is already a breakdown
+     */
+    public ErrorReport getHourReport(int hour) {
+
+        if (hours == null)
+            return null;
+
+        return hours[hour];
+    }
+
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", MAPE=" + mape + ", sMAPE=" + smape
+            + ", MAE=" + mae + ", RMSE=" + rmse;
+    }
+}
@@ -0,0 +1,254 @@
+package business;
+
+import java.util.List;
+
+/**
+ * Columnar table of each Post's looked-up criteria ratios, one row per
+ * Post, so estimates for any CriteriaWeights are a weighted sum per row
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class FeatureMatrix {
+
+    /* FeatureMatrix Variables */
+
+    private final int rows;
+
+    private final double[] dayRatios;
+    private final double[] typeRatios;
+    private final double[] hourRatios;
+    private final double[] monthRatios;
+    private final double[] keywordSums;
+    private final double[] keywordCounts;
+    private final double[] followers;
+    private final double[] engagements;
+
+
+    /* FeatureMatrix Constructor */
+
+    /**
+     * Look up ratios of every Post
+     * 
+     * @param posts
+     *            Posts to make rows for, in row order
+     * @param model
+     *            ModelStatistics calculated from training set
+     */
+    public FeatureMatrix(List<Post> posts, ModelStatistics model) {
+
+        rows = posts.size();
+
+        dayRatios = new double[rows];
+        typeRatios = new double[rows];
+        hourRatios = new double[rows];
+        monthRatios = new double[rows];
+        keywordSums = new double[rows];
+        keywordCounts = new double[rows];
+        followers = new double[rows];
+        engagements = new double[rows];
+
+        double[] keywordRatios = model.keywordRatios();
+
+        for (int i = 0; i < rows; i++) {
+
+            Post post = posts.get(i);
+
+            dayRatios[i] = model.getDayRatio(post.getDateTime().getDayOfWeek());
+            typeRatios[i] = model.getTypeRatio(post.getPostType());
+            hourRatios[i] = model.getHourRatio(post.getDateTime().getHour());
+            monthRatios[i] = model.getMonthRatio(post.getDateTime()
+                .getMonthValue());
+
+            double count = 0.0;
+            double sum = 0.0;
+
+            // Keywords never seen in training add nothing, as in Post
+            for (int id : post.getKnownKeywordIds()) {
+
+                if (id >= keywordRatios.length || Double.isNaN(
+                    keywordRatios[id]))
+                    continue;
+
+                count += 1.0;
+                sum += keywordRatios[id];
+            }
+
+            keywordSums[i] = sum;
+            keywordCounts[i] = count;
+            followers[i] = post.getFollowers();
+            engagements[i] = post.getEngagements();
+        }
+    }
+
+
+    /* FeatureMatrix Methods */
+
+    /**
+     * Get number of rows
+     * 
+     * @return Number of Posts
+     */
+    public int getRowCount() {
+        return rows;
+    }
+
+
+    /**
+     * Estimate Engagements of one row
+     * 
+     * @param row
+     *            Row index
+     * @param weights
+     *            Criteria weights
+     * @return Estimated Engagements
+     */
+    public int estimate(int row, CriteriaWeights weights) {
+        return weights.estimate(followers[row], dayRatios[row],
+            typeRatios[row], hourRatios[row], monthRatios[row],
+            keywordSums[row], keywordCounts[row]);
+    }
+
+
+    /**
+     * Estimate Engagements of rows into a column
+     * 
+     * @param weights
+     *            Criteria weights
+     * @param estimates
+     *            Column to write, at least getRowCount() long
+     * @param from
+     *            First row (inclusive)
+     * @param to
+     *            Last row (exclusive)
+     */
+    public void score(
+        CriteriaWeights weights,
+        int[] estimates,
+        int from,
+        int to) {
+
+        for (int i = from; i < to; i++) {
+            estimates[i] = estimate(i, weights);
+        }
+    }
+
+
+    /**
+     * Estimate Engagements of every row
+     * 
+     * @param weights
+     *            Criteria weights
+     * @return Estimated Engagements by row
+     */
+    public int[] score(CriteriaWeights weights) {
+
+        int[] estimates = new int[rows];
+        score(weights, estimates, 0, rows);
+
+        return estimates;
+    }
+
+
+    /**
+     * Calculate MAPE (as a percentage) of estimates made with given weights,
+     * skipping rows the way ErrorMetrics does
+     * 
+     * @param weights
+     *            Criteria weights
+     * @return MAPE over rows with Engagements, 0 if there are none
+     */
+    public double mape(CriteriaWeights weights) {
+
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        for (int i = 0; i < rows; i++) {
+            metrics.add(engagements[i], estimate(i, weights), -1, -1);
+        }
+
+        double mape = metrics.getMAPE();
+
+        return Double.isNaN(mape) ? 0.0 : mape;
+    }
+
+
+    /**
+     * Get day of week ratio column
+     * 
+     * @return Copy of column
+     */
+    public double[] getDayRatios() {
+        return dayRatios.clone();
+    }
+
+
+    /**
+     * Get Post Type ratio column
+     * 
+     * @return Copy of column
+     */
+    public double[] getTypeRatios() {
+        return typeRatios.clone();
+    }
+
+
+    /**
+     * Get hour ratio column
+     * 
+     * @return Copy of column
+     */
+    public double[] getHourRatios() {
+        return hourRatios.clone();
+    }
+
+
+    /**
+     * Get month ratio column
+     * 
+     * @return Copy of column
+     */
+    public double[] getMonthRatios() {
+        return monthRatios.clone();
+    }
+
+
+    /**
+     * Get summed (unweighted) known keyword ratio column
+     * 
+     * @return Copy of column
+     */
+    public double[] getKeywordSums() {
+        return keywordSums.clone();
+    }
+
+
+    /**
+     * Get known keyword count column
+     * 
+     * @return Copy of column
+     */
+    public double[] getKeywordCounts() {
+        return keywordCounts.clone();
+    }
+
+
+    /**
+     * Get Followers column
+     * 
+     * @return Copy of column
+     */
+    public double[] getFollowers() {
+        return followers.clone();
+    }
+
+
+    /**
+     * Get known Engagements column (-1 when unknown)
+     * 
+     * @return Copy of column
+     */
+    public double[] getEngagements() {
+        return engagements.clone();
+    }
+}
@@ -0,0 +1,411 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON parser for small request bodies
+ * (Objects become Maps, arrays Lists, numbers Longs or Doubles, and
+ * true/false/null Booleans and null)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class JsonParser {
+
+    /* JsonParser Values */
+
+    private static final int MAX_DEPTH = 64;
+
+
+    /* JsonParser Variables */
+
+    private final CharSequence text;
+    private int pos;
+    private int depth;
+
+
+    /* JsonParser Constructor */
+
+    /**
+     * Construct a JsonParser over text
+     * 
+     * @param t
+     *            JSON text
+     */
+    private JsonParser(CharSequence t) {
+        text = t;
+        pos = 0;
+        depth = 0;
+    }
+
+
+    /* JsonParser Methods */
+
+    /**
+     * Parse a JSON document
+     * 
+     * @param text
+     *            JSON text
+     * @return Parsed value
+     * @throws IllegalArgumentException
+     *             If text is not valid JSON
+     */
+    public static Object parse(CharSequence text) {
+
+        JsonParser parser = new JsonParser(text);
+
+        Object value = parser.readValue();
+
+        parser.skipWhitespace();
+
+        if (parser.pos != text.length())
+            throw parser.error("Unexpected text after JSON value");
+
+        return value;
+    }
+
+
+    /**
+     * Read any value
+     * 
+     * @return Parsed value
+     */
+    private Object readValue() {
+
+        skipWhitespace();
+
+        if (pos >= text.length())
+            throw error("Unexpected end of JSON");
+
+        char c = text.charAt(pos);
+
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                expect("true");
+                return Boolean.TRUE;
+            case 'f':
+                expect("false");
+                return Boolean.FALSE;
+            case 'n':
+                expect("null");
+                return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9'))
+                    return readNumber();
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+
+    /**
+     * Read an object
+     * 
+     * @return Map of members, in order
+     */
+    private Map<String, Object> readObject() {
+
+        enter();
+        pos++;
+
+        Map<String, Object> members = new LinkedHashMap<String, Object>();
+
+        skipWhitespace();
+
+        if (peek() == '}') {
+            pos++;
+            depth--;
+            return members;
+        }
+
+        while (true) {
+
+            skipWhitespace();
+
+            if (peek() != '"')
+                throw error("Expected member name");
+
+            String name = readString();
+
+            skipWhitespace();
+            consume(':');
+
+            members.put(name, readValue());
+
+            skipWhitespace();
+
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+
+            consume('}');
+            depth--;
+
+            return members;
+        }
+    }
+
+
+    /**
+     * Read an array
+     * 
+     * @return List of elements
+     */
+    private List<Object> readArray() {
+
+        enter();
+        pos++;
+
+        List<Object> elements = new ArrayList<Object>();
+
+        skipWhitespace();
+
+        if (peek() == ']') {
+            pos++;
+            depth--;
+            return elements;
+        }
+
+        while (true) {
+
+            elements.add(readValue());
+
+            skipWhitespace();
+
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+
+            consume(']');
+            depth--;
+
+            return elements;
+        }
+    }
+
+
+    /**
+     * Read a string
+     * 
+     * @return Unescaped string
+     */
+    private String readString() {
+
+        pos++;
+
+        StringBuilder value = new StringBuilder();
+
+        while (true) {
+
+            if (pos >= text.length())
+                throw error("Unterminated string");
+
+            char c = text.charAt(pos++);
+
+            if (c == '"')
+                return value.toString();
+
+            if (c < ' ')
+                throw error("Control character in string");
+
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+
+            if (pos >= text.length())
+                throw error("Unterminated escape");
+
+            char escaped = text.charAt(pos++);
+
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    value.append(escaped);
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'u':
+                    value.append(readHexChar());
+                    break;
+                default:
+                    throw error("Bad escape '\\" + escaped + "'");
+            }
+        }
+    }
+
+
+    /**
+     * Read the four hex digits of a \\u escape
+     * 
+     * @return Escaped character
+     */
+    private char readHexChar() {
+
+        if (pos + 4 > text.length())
+            throw error("Short unicode escape");
+
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+
+            int digit = Character.digit(text.charAt(pos++), 16);
+
+            if (digit < 0)
+                throw error("Bad unicode escape");
+
+            value = value * 16 + digit;
+        }
+
+        return (char)value;
+    }
+
+
+    /**
+     * Read a number
+     * 
+     * @return Long for integers that fit, otherwise Double
+     */
+    private Object readNumber() {
+
+        int start = pos;
+        boolean integer = true;
+
+        if (peek() == '-')
+            pos++;
+
+        while (pos < text.length()) {
+
+            char c = text.charAt(pos);
+
+            if (c >= '0' && c <= '9')
+                pos++;
+            else if (c == '.' || c == 'e' || c == 'E' || c == '+'
+                || c == '-') {
+                integer = false;
+                pos++;
+            }
+            else
+                break;
+        }
+
+        String number = text.subSequence(start, pos).toString();
+
+        try {
+            if (integer)
+                return Long.parseLong(number);
+
+            return Double.parseDouble(number);
+        }
+        catch (NumberFormatException e) {
+
+            if (integer)
+                return Double.parseDouble(number);
+
+            throw error("Bad number " + number);
+        }
+    }
+
+
+    /**
+     * Expect a literal word
+     * 
+     * @param word
+     *            Literal to match
+     */
+    private void expect(String word) {
+
+        for (int i = 0; i < word.length(); i++) {
+            if (pos >= text.length() || text.charAt(pos++) != word.charAt(i))
+                throw error("Expected " + word);
+        }
+    }
+
+
+    /**
+     * Consume one expected character
+     * 
+     * @param c
+     *            Expected character
+     */
+    private void consume(char c) {
+
+        if (peek() != c)
+            throw error("Expected '" + c + "'");
+
+        pos++;
+    }
+
+
+    /**
+     * Look at current character
+     * 
+     * @return Current character, or 0 at end of text
+     */
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : 0;
+    }
+
+
+    /**
+     * Skip JSON whitespace
+     */
+    private void skipWhitespace() {
+
+        while (pos < text.length()) {
+
+            char c = text.charAt(pos);
+
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r')
+                return;
+
+            pos++;
+        }
+    }
+
+
+    /**
+     * Enter an object or array, limiting nesting
+     */
+    private void enter() {
+        if (++depth > MAX_DEPTH)
+            throw error("JSON nested too deeply");
+    }
+
+
+    /**
+     * Make a parse error at current position
+     * 
+     * @param message
+     *            Error message
+     * @return Exception to throw
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + pos);
+    }
+}
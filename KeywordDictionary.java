@@ -0,0 +1,335 @@
+package business;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interns each username/hashtag once and gives it a dense integer ID,
+ * so keyword data can be kept in arrays indexed by ID
+ * (Lookups, and interning keywords already present, never lock; only
+ * adding a new keyword does)
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class KeywordDictionary {
+
+    /* KeywordDictionary Values */
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final KeywordDictionary SHARED = new KeywordDictionary();
+
+
+    /* KeywordDictionary Variables */
+
+    // Keywords by ID, only ever appended to so IDs never change
+    private volatile String[] keywords;
+    private volatile int size;
+
+    // Open addressing table whose slots are only ever filled, and which is
+    // replaced whole when it grows, so it can be probed without locking
+    private volatile AtomicReferenceArray<Entry> table;
+
+
+    /* KeywordDictionary Constructor */
+
+    /**
+     * Construct an empty KeywordDictionary
+     */
+    public KeywordDictionary() {
+        keywords = new String[INITIAL_CAPACITY];
+        size = 0;
+
+        table = new AtomicReferenceArray<Entry>(INITIAL_CAPACITY * 2);
+    }
+
+
+    /* KeywordDictionary Methods */
+
+    /**
+     * Get the dictionary Posts and KeywordMaps intern their keywords into
+     *
+     * @return Shared KeywordDictionary
+     */
+    public static KeywordDictionary getShared() {
+        return SHARED;
+    }
+
+
+    /**
+     * Get ID for a keyword, adding it if it is new
+     * (Keywords already present are found without locking)
+     *
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @return Keyword ID
+     */
+    public int intern(char[] chars, int length) {
+
+        int hash = hash(chars, length);
+
+        AtomicReferenceArray<Entry> current = table;
+
+        Entry entry = current.get(findSlot(current, chars, length, hash));
+
+        if (entry != null)
+            return entry.id;
+
+        return add(chars, length, hash);
+    }
+
+
+    /**
+     * Get ID for a keyword, adding it if it is new
+     *
+     * @param keyword
+     *            Keyword to intern
+     * @return Keyword ID
+     */
+    public int intern(String keyword) {
+        return intern(keyword.toCharArray(), keyword.length());
+    }
+
+
+    /**
+     * Get ID for a keyword without adding it, and without locking
+     *
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @return Keyword ID, or NOT_FOUND
+     */
+    public int lookup(char[] chars, int length) {
+
+        AtomicReferenceArray<Entry> current = table;
+
+        Entry entry = current.get(findSlot(current, chars, length, hash(
+            chars, length)));
+
+        return entry == null ? NOT_FOUND : entry.id;
+    }
+
+
+    /**
+     * Get ID for a keyword without adding it
+     *
+     * @param keyword
+     *            Keyword to find
+     * @return Keyword ID, or NOT_FOUND
+     */
+    public int lookup(String keyword) {
+        return lookup(keyword.toCharArray(), keyword.length());
+    }
+
+
+    /**
+     * Get keyword for an ID handed out by this dictionary
+     *
+     * @param id
+     *            Keyword ID
+     * @return Keyword
+     */
+    public String getKeyword(int id) {
+        return keywords[id];
+    }
+
+
+    /**
+     * Get number of interned keywords, IDs run from 0 to size - 1
+     *
+     * @return Number of keywords
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Add a keyword, unless another thread added it first
+     * (Keyword and ID are stored before the slot is filled, so a reader
+     * that finds the slot also sees them)
+     *
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @param hash
+     *            Keyword hash
+     * @return Keyword ID
+     */
+    private synchronized int add(char[] chars, int length, int hash) {
+
+        AtomicReferenceArray<Entry> current = table;
+
+        int slot = findSlot(current, chars, length, hash);
+        Entry entry = current.get(slot);
+
+        if (entry != null)
+            return entry.id;
+
+        if (size == keywords.length)
+            keywords = Arrays.copyOf(keywords, size * 2);
+
+        int id = size;
+        String keyword = new String(chars, 0, length);
+
+        keywords[id] = keyword;
+        size = id + 1;
+
+        current.set(slot, new Entry(keyword, hash, id));
+
+        if (size > current.length() / 2)
+            table = rehash(current);
+
+        return id;
+    }
+
+
+    /**
+     * Find table slot holding a keyword, or the empty slot it belongs in
+     *
+     * @param slots
+     *            Table to probe
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @param hash
+     *            Keyword hash
+     * @return Table slot
+     */
+    private static int findSlot(
+        AtomicReferenceArray<Entry> slots,
+        char[] chars,
+        int length,
+        int hash) {
+
+        int mask = slots.length() - 1;
+        int slot = hash & mask;
+
+        Entry entry;
+
+        while ((entry = slots.get(slot)) != null && (entry.hash != hash
+            || !matches(entry.keyword, chars, length))) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+
+    /**
+     * Copy every entry into a table of double the size
+     *
+     * @param slots
+     *            Full table
+     * @return Larger table, filled before it is published
+     */
+    private static AtomicReferenceArray<Entry> rehash(
+        AtomicReferenceArray<Entry> slots) {
+
+        AtomicReferenceArray<Entry> grown = new AtomicReferenceArray<Entry>(
+            slots.length() * 2);
+
+        int mask = grown.length() - 1;
+
+        for (int i = 0; i < slots.length(); i++) {
+
+            Entry entry = slots.get(i);
+
+            if (entry == null)
+                continue;
+
+            int slot = entry.hash & mask;
+
+            while (grown.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            grown.set(slot, entry);
+        }
+
+        return grown;
+    }
+
+
+    /**
+     * Hash a keyword the way String.hashCode() does, with spread high bits
+     *
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @return Hash value
+     */
+    private static int hash(char[] chars, int length) {
+
+        int h = 0;
+
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars[i];
+        }
+
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Check if an interned keyword equals a buffer
+     *
+     * @param keyword
+     *            Interned keyword
+     * @param chars
+     *            Buffer holding keyword
+     * @param length
+     *            Keyword length
+     * @return If they hold the same characters
+     */
+    private static boolean matches(String keyword, char[] chars, int length) {
+
+        if (keyword.length() != length)
+            return false;
+
+        for (int i = 0; i < length; i++) {
+            if (keyword.charAt(i) != chars[i])
+                return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Interned keyword with its hash and ID
+     */
+    private static final class Entry {
+
+        private final String keyword;
+        private final int hash;
+        private final int id;
+
+
+        /**
+         * Construct an Entry
+         *
+         * @param k
+         *            Keyword
+         * @param h
+         *            Keyword hash
+         * @param i
+         *            Keyword ID
+         */
+        private Entry(String k, int h, int i) {
+            keyword = k;
+            hash = h;
+            id = i;
+        }
+    }
+}
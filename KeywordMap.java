@@ -1,12 +1,10 @@
 package business;
 
-import java.util.HashMap;
-import java.util.ArrayList;
-import java.math.BigInteger;
-import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Holds data for keywords that appear in multiple Posts
+ * (Backed by a RatioTable indexed by KeywordDictionary ID)
  * 
  * @author Kevin M. Smith <kmsmith3@vt.edu>
  * @version July 13, 2019 <v1.0>
@@ -14,31 +12,43 @@ import java.time.LocalDateTime;
  */
 public class KeywordMap {
 
+    /* KeywordMap Values */
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+
     /* KeywordMap Variables */
 
-    private HashMap<String, PostData> keywordMap;
+    private KeywordDictionary dictionary;
+
+    private RatioTable totals;
+
+    private volatile double[] ratios;
 
 
     /* KeywordMap Constructor */
 
     /**
-     * Construct a HashMap with String keys and PostData values to use for
-     * KeywordMap
+     * Construct an empty KeywordMap over the shared KeywordDictionary
      */
     public KeywordMap() {
-        keywordMap = new HashMap<String, PostData>();
+        dictionary = KeywordDictionary.getShared();
+
+        totals = new RatioTable(INITIAL_CAPACITY);
+
+        ratios = null;
     }
 
 
     /* KeywordMap Methods */
 
     /**
-     * Get KeywordMap HashMap
+     * Get KeywordDictionary that IDs in KeywordMap belong to
      * 
-     * @return HashMap in KeywordMap
+     * @return KeywordDictionary
      */
-    public HashMap<String, PostData> getMap() {
-        return keywordMap;
+    public KeywordDictionary getDictionary() {
+        return dictionary;
     }
 
 
@@ -51,12 +61,66 @@ public class KeywordMap {
      *            Keyword with Post Description
      */
     public void handleKeyword(Post post, String key) {
-        PostData data = new PostData();
+        handleKeyword(post, dictionary.intern(key));
+    }
+
+
+    /**
+     * Handle a keyword ID within KeywordMap
+     * 
+     * @param post
+     *            Post to evaluate
+     * @param id
+     *            ID of keyword mentioned in Post
+     */
+    public void handleKeyword(Post post, int id) {
+
+        totals.ensureCapacity(id + 1);
+        totals.add(id, post.getEngagements(), post.getFollowers());
+
+        ratios = null;
+    }
+
+
+    /**
+     * Add every keyword of a Post to KeywordMap
+     * 
+     * @param post
+     *            Post to add
+     */
+    public void addPost(Post post) {
+
+        for (int id : post.getKeywordIds()) {
+            handleKeyword(post, id);
+        }
+    }
+
+
+    /**
+     * Add every keyword of a batch of new Posts to KeywordMap, updating
+     * totals in place
+     * 
+     * @param batch
+     *            Posts to add
+     */
+    public void addPosts(List<Post> batch) {
+
+        for (Post post : batch) {
+            addPost(post);
+        }
+    }
 
-        if (!hasKeyword(key))
-            keywordMap.put(key, data);
 
-        handlePost(post, key);
+    /**
+     * Add every keyword total of another KeywordMap into this one
+     * 
+     * @param other
+     *            KeywordMap over the same KeywordDictionary
+     */
+    public void merge(KeywordMap other) {
+        totals.merge(other.totals);
+
+        ratios = null;
     }
 
 
@@ -68,42 +132,38 @@ public class KeywordMap {
      * @return If key is already in KeywordMap
      */
     public boolean hasKeyword(String key) {
-        return keywordMap.containsKey(key);
+        return hasKeyword(dictionary.lookup(key));
     }
 
 
     /**
-     * Get PostData for keyword
+     * Check if KeywordMap contains keyword ID
      * 
-     * @param key
-     *            Keyword to get PostData for
-     * @return PostData for key in KeywordMap
+     * @param id
+     *            Keyword ID to check
+     * @return If id has been mentioned in a Post
      */
-    public PostData getPostData(String key) {
-        return keywordMap.get(key);
+    public boolean hasKeyword(int id) {
+        return id >= 0 && id < totals.size() && totals.getCount(id) > 0;
     }
 
 
     /**
-     * Handle data for Post in KeywordMap
+     * Get PostData for keyword
      * 
-     * @param post
-     *            Post to evaluate
      * @param key
-     *            Keyword mentioned in Post
+     *            Keyword to get PostData for
+     * @return PostData for key in KeywordMap, or null if not present
      */
-    private void handlePost(Post post, String key) {
-
-        PostData data = keywordMap.remove(key);
-
-        data.incrementCount();
+    public PostData getPostData(String key) {
 
-        data.addEngagements(post.getEngagements());
-        data.addFollowers(post.getFollowers());
+        int id = dictionary.lookup(key);
 
-        data.addDate(post.getDateTime());
+        if (!hasKeyword(id))
+            return null;
 
-        keywordMap.put(key, data);
+        return new PostData(totals.getCount(id), totals.getEngagements(id),
+            totals.getFollowers(id));
     }
 
 
@@ -115,7 +175,19 @@ public class KeywordMap {
      * @return Count of key mentions
      */
     public int getKeywordCount(String key) {
-        return keywordMap.get(key).count;
+        return getKeywordCount(dictionary.lookup(key));
+    }
+
+
+    /**
+     * Get count of keyword ID mentions
+     * 
+     * @param id
+     *            Keyword ID to get count
+     * @return Count of id mentions
+     */
+    public int getKeywordCount(int id) {
+        return hasKeyword(id) ? totals.getCount(id) : 0;
     }
 
 
@@ -126,8 +198,10 @@ public class KeywordMap {
      *            Keyword to get Engagements
      * @return Total Engagements for key
      */
-    public BigInteger getEngagements(String key) {
-        return keywordMap.get(key).engagements;
+    public long getEngagements(String key) {
+        int id = dictionary.lookup(key);
+
+        return hasKeyword(id) ? totals.getEngagements(id) : 0;
     }
 
 
@@ -138,8 +212,10 @@ public class KeywordMap {
      *            Keyword to get Followers
      * @return Total Followers for key
      */
-    public BigInteger getFollowers(String key) {
-        return keywordMap.get(key).followers;
+    public long getFollowers(String key) {
+        int id = dictionary.lookup(key);
+
+        return hasKeyword(id) ? totals.getFollowers(id) : 0;
     }
 
 
@@ -151,7 +227,46 @@ public class KeywordMap {
      * @return Engagement/Follower ratio for key
      */
     public double getRatio(String key) {
-        return keywordMap.get(key).getRatio();
+        return getRatio(dictionary.lookup(key));
+    }
+
+
+    /**
+     * Get Engagement/Follower ratio for keyword ID
+     * 
+     * @param id
+     *            Keyword ID to get ratio
+     * @return Engagement/Follower ratio for id, NaN if not present
+     */
+    public double getRatio(int id) {
+        double[] all = getRatios();
+
+        return id >= 0 && id < all.length ? all[id] : Double.NaN;
+    }
+
+
+    /**
+     * Get Engagement/Follower ratios of every keyword, indexed by ID
+     * (Calculated once after the KeywordMap last changed)
+     * 
+     * @return Array of ratios, NaN for IDs not present
+     */
+    public double[] getRatios() {
+
+        double[] all = ratios;
+
+        if (all == null) {
+
+            all = new double[totals.size()];
+
+            for (int id = 0; id < all.length; id++) {
+                all[id] = hasKeyword(id) ? totals.getRatio(id) : Double.NaN;
+            }
+
+            ratios = all;
+        }
+
+        return all;
     }
 
 
@@ -168,24 +283,27 @@ public class KeywordMap {
 
         private int count;
 
-        private BigInteger engagements;
-        private BigInteger followers;
-
-        private ArrayList<LocalDateTime> dates;
+        private long engagements;
+        private long followers;
 
 
         /* PostData Constructor */
 
         /**
-         * Construct PostData to be used in KeywordMap
+         * Construct PostData for a keyword in KeywordMap
+         * 
+         * @param c
+         *            Count of keyword mentions
+         * @param e
+         *            Total Engagements
+         * @param f
+         *            Total Followers
          */
-        public PostData() {
-            count = 0;
-
-            engagements = new BigInteger("0");
-            followers = new BigInteger("0");
+        public PostData(int c, long e, long f) {
+            count = c;
 
-            dates = new ArrayList<LocalDateTime>();
+            engagements = e;
+            followers = f;
         }
 
 
@@ -207,11 +325,7 @@ public class KeywordMap {
          * @return Calculated Engagement/Follower ratio
          */
         public double getRatio() {
-
-            double engageAvg = engagements.doubleValue() / (double)count;
-            double followAvg = engagements.doubleValue() / (double)count;
-
-            return (double)(engageAvg / followAvg);
+            return RatioTable.ratio(count, engagements, followers);
         }
 
 
@@ -220,7 +334,7 @@ public class KeywordMap {
          * 
          * @return Engagements
          */
-        public BigInteger getEngagments() {
+        public long getEngagments() {
             return engagements;
         }
 
@@ -230,61 +344,8 @@ public class KeywordMap {
          * 
          * @return Followers
          */
-        public BigInteger getFollowers() {
+        public long getFollowers() {
             return followers;
         }
-
-
-        /**
-         * Get list of LocalDateTime associated with keyword PostData
-         * 
-         * @return List of LocalDateTimes
-         */
-        public ArrayList<LocalDateTime> getDates() {
-            return dates;
-        }
-
-
-        /**
-         * Increment keyword count in PostData
-         */
-        public void incrementCount() {
-            count++;
-        }
-
-
-        /**
-         * Add Engagements to PostData total
-         * 
-         * @param engages
-         *            Engagements to add
-         */
-        public void addEngagements(int engages) {
-            engagements = engagements.add(new BigInteger(Integer.toString(
-                engages)));
-        }
-
-
-        /**
-         * Add Followers to PostData total
-         * 
-         * @param follows
-         *            Followers to add
-         */
-        public void addFollowers(int follows) {
-            followers = followers.add(new BigInteger(Integer.toString(
-                follows)));
-        }
-
-
-        /**
-         * Add LocalDateTime to DateTime list
-         * 
-         * @param date
-         *            LocalDateTime to add
-         */
-        public void addDate(LocalDateTime date) {
-            dates.add(date);
-        }
     }
 }
@@ -0,0 +1,233 @@
+package business;
+
+/**
+ * Single-pass tokenizer that finds @usernames and #hashtags in a Post
+ * Description, cleaning each one into a reusable buffer
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class KeywordTokenizer {
+
+    /* KeywordTokenizer Values */
+
+    private static final int INITIAL_LENGTH = 64;
+
+    private static final char MENTION = '@';
+    private static final char HASHTAG = '#';
+
+
+    /* KeywordTokenizer Variables */
+
+    private char[] token;
+    private char[] keyword;
+
+
+    /* KeywordTokenizer Constructor */
+
+    /**
+     * Construct a KeywordTokenizer, one instance should be used per thread
+     */
+    public KeywordTokenizer() {
+        token = new char[INITIAL_LENGTH];
+        keyword = new char[INITIAL_LENGTH];
+    }
+
+
+    /* KeywordTokenizer Methods */
+
+    /**
+     * Receives keywords found by a KeywordTokenizer
+     */
+    public interface KeywordSink {
+
+        /**
+         * Accept a cleaned keyword, the buffer is reused after this returns
+         *
+         * @param chars
+         *            Buffer holding keyword
+         * @param length
+         *            Keyword length
+         */
+        void keyword(char[] chars, int length);
+    }
+
+
+    /**
+     * Find keywords in a Description
+     * (Description is lowercased, '/', '|', '-', and "..." split tokens,
+     * and tokens are separated by whitespace)
+     *
+     * @param desc
+     *            Description to tokenize
+     * @param sink
+     *            Receiver of each keyword, in order
+     * @return Number of keywords found
+     */
+    public int tokenize(CharSequence desc, KeywordSink sink) {
+
+        int found = 0;
+        int length = 0;
+        int hashtags = 0;
+
+        int n = desc.length();
+        int i = 0;
+
+        while (i <= n) {
+
+            char c;
+
+            if (i == n) {
+                c = ' ';
+                i++;
+            }
+            else if (desc.charAt(i) == '.' && i + 2 < n
+                && desc.charAt(i + 1) == '.' && desc.charAt(i + 2) == '.') {
+                c = ' ';
+                i += 3;
+            }
+            else {
+                c = Character.toLowerCase(desc.charAt(i++));
+
+                if (c == '/' || c == '|' || c == '-')
+                    c = ' ';
+            }
+
+            if (!Character.isWhitespace(c)) {
+
+                if (length == token.length)
+                    token = grow(token);
+
+                token[length++] = c;
+
+                if (c == HASHTAG)
+                    hashtags++;
+
+                continue;
+            }
+
+            if (length > 0 && (token[0] == MENTION || token[0] == HASHTAG))
+                found += emitToken(length, hashtags, sink);
+
+            length = 0;
+            hashtags = 0;
+        }
+
+        return found;
+    }
+
+
+    /**
+     * Emit keywords for a token starting with '@' or '#'
+     * (Tokens holding several hashtags yield one empty keyword per
+     * hashtag after the first character, matching how they have always
+     * been counted in the KeywordMap)
+     *
+     * @param length
+     *            Token length
+     * @param hashtags
+     *            Number of '#' in token
+     * @param sink
+     *            Receiver of keywords
+     * @return Number of keywords emitted
+     */
+    private int emitToken(int length, int hashtags, KeywordSink sink) {
+
+        if (hashtags <= 1) {
+            sink.keyword(keyword, cleanToken(length));
+            return 1;
+        }
+
+        int inner = token[0] == HASHTAG ? hashtags - 1 : hashtags;
+
+        for (int i = 0; i < inner; i++) {
+            sink.keyword(keyword, 0);
+        }
+
+        return inner;
+    }
+
+
+    /**
+     * Clean current token into keyword buffer
+     * (Stops at punctuation that ends a username/hashtag)
+     *
+     * @param length
+     *            Token length
+     * @return Cleaned keyword length
+     */
+    private int cleanToken(int length) {
+
+        if (keyword.length < length)
+            keyword = new char[token.length];
+
+        int cleaned = 0;
+
+        for (int i = 0; i < length; i++) {
+
+            char c = token[i];
+
+            if (endsKeyword(c))
+                break;
+            else if (c == '(' || c == '[')
+                continue;
+            else if (c == '.') {
+                if (i + 1 < length && token[i + 1] != '.')
+                    continue;
+                break;
+            }
+            else if (c == '/')
+                c = ' ';
+
+            keyword[cleaned++] = c;
+        }
+
+        return cleaned;
+    }
+
+
+    /**
+     * Check if character ends a username/hashtag
+     *
+     * @param c
+     *            Character to check
+     * @return If c is closing punctuation
+     */
+    private boolean endsKeyword(char c) {
+
+        switch (c) {
+            case '':
+            case ',':
+            case ')':
+            case '!':
+            case '?':
+            case ':':
+            case ';':
+            case '"':
+            case '\'':
+            case '*':
+            case ']':
+            case '':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+
+    /**
+     * Double the size of a buffer
+     *
+     * @param chars
+     *            Buffer to grow
+     * @return Larger copy of buffer
+     */
+    private char[] grow(char[] chars) {
+
+        char[] grown = new char[chars.length * 2];
+        System.arraycopy(chars, 0, grown, 0, chars.length);
+
+        return grown;
+    }
+}
@@ -0,0 +1,184 @@
+package business;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the EngagementScorer currently in service, so a retrained
+ * model can replace it without pausing scoring
+ * (Readers take the current scorer with one volatile read and never
+ * lock; a scorer taken before a swap keeps its model and keyword table
+ * until the scorings using it finish, after which it is left to the
+ * collector)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class LiveScorer {
+
+    /* LiveScorer Variables */
+
+    private final AtomicReference<Snapshot> current;
+
+
+    /* LiveScorer Constructor */
+
+    /**
+     * Construct a LiveScorer serving an initial scorer as version 1
+     * 
+     * @param scorer
+     *            Scorer to serve first
+     */
+    public LiveScorer(EngagementScorer scorer) {
+
+        if (scorer == null)
+            throw new IllegalArgumentException("Scorer is null");
+
+        current = new AtomicReference<Snapshot>(new Snapshot(scorer, 1));
+    }
+
+
+    /* LiveScorer Methods */
+
+    /**
+     * Get scorer currently in service
+     * (A batch should be scored with one scorer taken here, so every Post
+     * in it sees the same model)
+     * 
+     * @return Current EngagementScorer
+     */
+    public EngagementScorer get() {
+        return current.get().scorer;
+    }
+
+
+    /**
+     * Get version of scorer currently in service
+     * 
+     * @return Version, starting at 1 and counting each swap
+     */
+    public long getVersion() {
+        return current.get().version;
+    }
+
+
+    /**
+     * Get scorer currently in service along with its version
+     * 
+     * @return Current Snapshot
+     */
+    public Snapshot getSnapshot() {
+        return current.get();
+    }
+
+
+    /**
+     * Estimate Engagements of a Post with the current scorer
+     * 
+     * @param post
+     *            Post to score
+     * @return Estimated Engagements
+     */
+    public int score(Post post) {
+        return current.get().scorer.score(post);
+    }
+
+
+    /**
+     * Put a retrained model into service, keeping the current criteria
+     * weights
+     * (The new scorer's keyword table is built before the swap, so readers
+     * never wait on it)
+     * 
+     * @param model
+     *            Retrained ModelStatistics
+     * @return Scorer taken out of service
+     */
+    public EngagementScorer swap(ModelStatistics model) {
+        return swap(new EngagementScorer(model, get().getWeights()));
+    }
+
+
+    /**
+     * Put a scorer into service
+     * 
+     * @param scorer
+     *            Scorer to serve
+     * @return Scorer taken out of service
+     */
+    public EngagementScorer swap(EngagementScorer scorer) {
+
+        if (scorer == null)
+            throw new IllegalArgumentException("Scorer is null");
+
+        Snapshot previous = current.getAndUpdate(s -> new Snapshot(scorer,
+            s.version + 1));
+
+        return previous.scorer;
+    }
+
+
+    /**
+     * Put a scorer into service only if the expected one is still serving
+     * (Lets racing retrains keep the one that started from the newest
+     * model)
+     * 
+     * @param expected
+     *            Snapshot the replacement was built from
+     * @param scorer
+     *            Scorer to serve
+     * @return If scorer was put into service
+     */
+    public boolean swap(Snapshot expected, EngagementScorer scorer) {
+
+        if (scorer == null)
+            throw new IllegalArgumentException("Scorer is null");
+
+        return current.compareAndSet(expected, new Snapshot(scorer,
+            expected.version + 1));
+    }
+
+
+    /**
+     * Immutable pairing of a scorer with the version it was served as
+     */
+    public static final class Snapshot {
+
+        private final EngagementScorer scorer;
+        private final long version;
+
+
+        /**
+         * Construct a Snapshot
+         * 
+         * @param s
+         *            Scorer
+         * @param v
+         *            Version
+         */
+        private Snapshot(EngagementScorer s, long v) {
+            scorer = s;
+            version = v;
+        }
+
+
+        /**
+         * Get scorer
+         * 
+         * @return EngagementScorer
+         */
+        public EngagementScorer getScorer() {
+            return scorer;
+        }
+
+
+        /**
+         * Get version
+         * 
+         * @return Version, starting at 1
+         */
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+/**
+ * Memory-mapped reader for Post CSV files
+ * (Numbers and dates are parsed straight from the mapped bytes and
+ * descriptions stay in the mapping until a String is asked for)
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class MappedPostReader {
+
+    /* MappedPostReader Values */
+
+    private static final long WINDOW_SIZE = 1L << 30;
+    private static final int INITIAL_FIELDS = 8;
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private static final String HEADER_FIELD = "Followers at Posting";
+
+    private static final String EDT = "EDT";
+    private static final String EST = "EST";
+
+    private static final int ENGAGES = 0, FOLLOWS = 1, CREATED = 2, TYPE = 3,
+        DESC = 4;
+
+
+    /* MappedPostReader Variables */
+
+    private ByteBuffer buffer;
+
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+    private boolean[] fieldQuoted;
+    private boolean[] fieldEscaped;
+    private int fieldCount;
+
+
+    /* MappedPostReader Constructor */
+
+    /**
+     * Construct a MappedPostReader, one instance should be used per thread
+     */
+    public MappedPostReader() {
+        fieldStarts = new int[INITIAL_FIELDS];
+        fieldEnds = new int[INITIAL_FIELDS];
+        fieldQuoted = new boolean[INITIAL_FIELDS];
+        fieldEscaped = new boolean[INITIAL_FIELDS];
+        fieldCount = 0;
+    }
+
+
+    /* MappedPostReader Methods */
+
+    /**
+     * Map a Post file and read it into a list of Posts
+     *
+     * @param file
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return List of Posts from file
+     * @throws IOException
+     *             If file cannot be mapped
+     */
+    public ArrayList<Post> readPosts(Path file, boolean hasEngagements)
+        throws IOException {
+
+        ArrayList<Post> posts = new ArrayList<Post>();
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            long base = 0;
+
+            // Files over 2GB are mapped in windows that restart on a record
+            while (base < size) {
+
+                long length = Math.min(WINDOW_SIZE, size - base);
+                boolean atEnd = base + length == size;
+
+                MappedByteBuffer window = channel.map(
+                    FileChannel.MapMode.READ_ONLY, base, length);
+
+                int consumed = parseRange(window, 0, (int)length, atEnd,
+                    hasEngagements, posts);
+
+                if (consumed == 0)
+                    throw new IOException("Record at byte " + base
+                        + " is larger than the mapping window");
+
+                base += consumed;
+            }
+        }
+
+        return posts;
+    }
+
+
+    /**
+     * Parse every complete record within a range of a buffer
+     *
+     * @param buf
+     *            Buffer holding CSV bytes
+     * @param start
+     *            Offset of first record
+     * @param end
+     *            Offset after last byte of range
+     * @param atEnd
+     *            If range ends at end of file (last record may lack a
+     *            line break)
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @param posts
+     *            List to add parsed Posts to
+     * @return Offset after last complete record
+     */
+    public int parseRange(
+        ByteBuffer buf,
+        int start,
+        int end,
+        boolean atEnd,
+        boolean hasEngagements,
+        List<Post> posts) {
+
+        buffer = buf;
+
+        int pos = start;
+
+        while (pos < end) {
+
+            int next = scanRecord(pos, end, atEnd);
+
+            if (next < 0)
+                break;
+
+            Post post = makePost(hasEngagements);
+
+            if (post != null)
+                posts.add(post);
+
+            pos = next;
+        }
+
+        buffer = null;
+
+        return pos;
+    }
+
+
+    /**
+     * Find field bounds of the record starting at an offset
+     *
+     * @param pos
+     *            Offset of record
+     * @param end
+     *            Offset after last readable byte
+     * @param atEnd
+     *            If end is end of file
+     * @return Offset after record, or -1 if record continues past end
+     */
+    private int scanRecord(int pos, int end, boolean atEnd) {
+
+        fieldCount = 0;
+
+        int i = pos;
+
+        // Blank line
+        if (buffer.get(i) == LF)
+            return i + 1;
+        if (buffer.get(i) == CR)
+            return lineEnd(i, end, atEnd);
+
+        while (true) {
+
+            int fieldStart = i;
+            int fieldEnd;
+            boolean quoted = false;
+            boolean escaped = false;
+
+            if (i < end && buffer.get(i) == QUOTE) {
+
+                quoted = true;
+                fieldStart = ++i;
+
+                while (true) {
+
+                    if (i >= end) {
+                        if (!atEnd)
+                            return -1;
+                        fieldEnd = i;
+                        break;
+                    }
+
+                    if (buffer.get(i) != QUOTE) {
+                        i++;
+                        continue;
+                    }
+
+                    if (i + 1 >= end && !atEnd)
+                        return -1;
+
+                    if (i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                        escaped = true;
+                        i += 2;
+                        continue;
+                    }
+
+                    fieldEnd = i++;
+                    break;
+                }
+
+                // Skip stray bytes between closing quote and delimiter
+                while (i < end && !isDelimiter(buffer.get(i))) {
+                    i++;
+                }
+            }
+            else {
+
+                while (i < end && !isDelimiter(buffer.get(i))) {
+                    i++;
+                }
+
+                fieldEnd = i;
+            }
+
+            if (i >= end && !atEnd)
+                return -1;
+
+            addField(fieldStart, fieldEnd, quoted, escaped);
+
+            if (i >= end)
+                return i;
+
+            if (buffer.get(i) == COMMA) {
+                i++;
+                continue;
+            }
+
+            return lineEnd(i, end, atEnd);
+        }
+    }
+
+
+    /**
+     * Get offset after a line break
+     *
+     * @param i
+     *            Offset of CR or LF
+     * @param end
+     *            Offset after last readable byte
+     * @param atEnd
+     *            If end is end of file
+     * @return Offset after line break, or -1 if CRLF may be split by end
+     */
+    private int lineEnd(int i, int end, boolean atEnd) {
+
+        if (buffer.get(i) == LF)
+            return i + 1;
+
+        if (i + 1 >= end)
+            return atEnd ? i + 1 : -1;
+
+        return buffer.get(i + 1) == LF ? i + 2 : i + 1;
+    }
+
+
+    /**
+     * Check if a byte ends an unquoted field
+     *
+     * @param b
+     *            Byte to check
+     * @return If byte is a comma or line break
+     */
+    private boolean isDelimiter(byte b) {
+        return b == COMMA || b == CR || b == LF;
+    }
+
+
+    /**
+     * Record bounds of a field in current record
+     *
+     * @param start
+     *            Offset of field value
+     * @param end
+     *            Offset after field value
+     * @param quoted
+     *            If field was quoted
+     * @param escaped
+     *            If field holds escaped ("") quotes
+     */
+    private void addField(int start, int end, boolean quoted, boolean escaped) {
+
+        if (fieldCount == fieldStarts.length) {
+            int size = fieldCount * 2;
+
+            fieldStarts = Arrays.copyOf(fieldStarts, size);
+            fieldEnds = Arrays.copyOf(fieldEnds, size);
+            fieldQuoted = Arrays.copyOf(fieldQuoted, size);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, size);
+        }
+
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldQuoted[fieldCount] = quoted;
+        fieldEscaped[fieldCount] = escaped;
+
+        fieldCount++;
+    }
+
+
+    /**
+     * Make a Post from the current record
+     *
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return Post for record, or null for header/incomplete records
+     */
+    private Post makePost(boolean hasEngagements) {
+
+        if (fieldCount <= TYPE || fieldEquals(FOLLOWS, HEADER_FIELD))
+            return null;
+
+        int engages = -1;
+
+        if (hasEngagements && fieldEnds[ENGAGES] > fieldStarts[ENGAGES])
+            engages = parseInt(ENGAGES, 0, fieldEnds[ENGAGES]
+                - fieldStarts[ENGAGES]);
+
+        int follows = -1;
+
+        if (fieldEnds[FOLLOWS] > fieldStarts[FOLLOWS])
+            follows = parseInt(FOLLOWS, 0, fieldEnds[FOLLOWS]
+                - fieldStarts[FOLLOWS]);
+
+        LocalDateTime ldt = LocalDateTime.of(parseInt(CREATED, 0, 4),
+            parseInt(CREATED, 5, 7), parseInt(CREATED, 8, 10), parseInt(
+                CREATED, 11, 13), parseInt(CREATED, 14, 16), parseInt(
+                    CREATED, 17, 19));
+
+        return new Post(engages, follows, ldt, makeTimeZone(), makePostType(),
+            makeDescription());
+    }
+
+
+    /**
+     * Parse digits within a field
+     *
+     * @param field
+     *            Field index
+     * @param from
+     *            First byte index within field (inclusive)
+     * @param to
+     *            Last byte index within field (exclusive)
+     * @return Parsed integer
+     * @throws NumberFormatException
+     *             If range holds anything but digits
+     */
+    private int parseInt(int field, int from, int to) {
+
+        int start = fieldStarts[field];
+
+        if (start + to > fieldEnds[field])
+            throw new NumberFormatException("Bad range in field " + field);
+
+        int value = 0;
+
+        for (int i = start + from; i < start + to; i++) {
+
+            int digit = buffer.get(i) - '0';
+
+            if (digit < 0 || digit > 9)
+                throw new NumberFormatException(fieldText(field).toString());
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+
+    /**
+     * Check if a field equals an ASCII String
+     *
+     * @param field
+     *            Field index
+     * @param value
+     *            Value to compare
+     * @return If field equals value
+     */
+    private boolean fieldEquals(int field, String value) {
+
+        int start = fieldStarts[field];
+
+        if (fieldEnds[field] - start != value.length())
+            return false;
+
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer.get(start + i) != value.charAt(i))
+                return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Get Time Zone from the Created field
+     *
+     * @return EDT, EST, or other zone text
+     */
+    private String makeTimeZone() {
+
+        int start = fieldStarts[CREATED];
+
+        if (fieldEnds[CREATED] - start < 23)
+            return "";
+
+        if (buffer.get(start + 20) == 'E' && buffer.get(start + 22) == 'T') {
+
+            if (buffer.get(start + 21) == 'D')
+                return EDT;
+            if (buffer.get(start + 21) == 'S')
+                return EST;
+        }
+
+        return new MappedText(buffer, start + 20, 3).toString();
+    }
+
+
+    /**
+     * Get Post Type from the Type field
+     *
+     * @return Post Type
+     */
+    private PostType makePostType() {
+
+        if (fieldEquals(TYPE, "Photo"))
+            return PostType.PHOTO;
+        if (fieldEquals(TYPE, "Album"))
+            return PostType.ALBUM;
+        if (fieldEquals(TYPE, "Video"))
+            return PostType.VIDEO;
+
+        return PostType.POST_NULL;
+    }
+
+
+    /**
+     * Get description of current record without copying it out of the
+     * buffer, unless it holds escaped quotes
+     *
+     * @return Description text
+     */
+    private CharSequence makeDescription() {
+
+        if (fieldCount <= DESC)
+            return "";
+
+        if (fieldCount == DESC + 1)
+            return fieldText(DESC);
+
+        // Unquoted description that held commas
+        boolean quoted = false;
+
+        for (int i = DESC; i < fieldCount; i++) {
+            quoted |= fieldQuoted[i];
+        }
+
+        if (!quoted)
+            return new MappedText(buffer, fieldStarts[DESC],
+                fieldEnds[fieldCount - 1] - fieldStarts[DESC]);
+
+        StringBuilder joined = new StringBuilder();
+
+        for (int i = DESC; i < fieldCount; i++) {
+            if (i > DESC)
+                joined.append(',');
+            joined.append(fieldText(i));
+        }
+
+        return joined.toString();
+    }
+
+
+    /**
+     * Get text of a field
+     *
+     * @param field
+     *            Field index
+     * @return Field text
+     */
+    private CharSequence fieldText(int field) {
+
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+
+        if (start == end)
+            return "";
+
+        if (!fieldEscaped[field])
+            return new MappedText(buffer, start, end - start);
+
+        StringBuilder text = new StringBuilder(end - start);
+
+        for (int i = start; i < end; i++) {
+
+            byte b = buffer.get(i);
+
+            text.append(MappedText.decode(b));
+
+            if (b == QUOTE)
+                i++;
+        }
+
+        return text.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package business;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Read-only view of single-byte encoded text inside a (mapped) ByteBuffer,
+ * characters are decoded on access and a String is only made by toString()
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class MappedText implements CharSequence {
+
+    /* MappedText Values */
+
+    private static final char[] DECODE = makeDecodeTable();
+
+
+    /* MappedText Variables */
+
+    private ByteBuffer bytes;
+    private int offset;
+    private int length;
+
+
+    /* MappedText Constructor */
+
+    /**
+     * Construct a view over a range of bytes
+     *
+     * @param b
+     *            Buffer holding the text
+     * @param off
+     *            Absolute offset of first byte
+     * @param len
+     *            Number of bytes (and characters)
+     */
+    public MappedText(ByteBuffer b, int off, int len) {
+        bytes = b;
+        offset = off;
+        length = len;
+    }
+
+
+    /* MappedText Methods */
+
+    /**
+     * Decode a single byte in PostReader's charset
+     *
+     * @param b
+     *            Byte to decode
+     * @return Decoded character
+     */
+    public static char decode(byte b) {
+        return DECODE[b & 0xFF];
+    }
+
+
+    /**
+     * Encode a single character in PostReader's charset
+     *
+     * @param c
+     *            Character to encode
+     * @return Encoded byte (0 to 255), or -1 if the charset lacks c
+     */
+    public static int encode(char c) {
+
+        if (c < DECODE.length && DECODE[c] == c)
+            return c;
+
+        for (int b = 0; b < DECODE.length; b++) {
+            if (DECODE[b] == c)
+                return b;
+        }
+
+        return -1;
+    }
+
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+
+    @Override
+    public char charAt(int index) {
+
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+
+        return DECODE[bytes.get(offset + index) & 0xFF];
+    }
+
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+
+        if (start < 0 || end > length || start > end)
+            throw new IndexOutOfBoundsException(start + ", " + end);
+
+        return new MappedText(bytes, offset + start, end - start);
+    }
+
+
+    @Override
+    public String toString() {
+
+        char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            chars[i] = DECODE[bytes.get(offset + i) & 0xFF];
+        }
+
+        return new String(chars);
+    }
+
+
+    /**
+     * Build byte to char table for PostReader's charset
+     *
+     * @return Table of 256 decoded characters
+     */
+    private static char[] makeDecodeTable() {
+
+        byte[] all = new byte[256];
+
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte)i;
+        }
+
+        try {
+            CharBuffer decoded = PostReader.CHARSET.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(ByteBuffer.wrap(all));
+
+            if (decoded.remaining() != all.length)
+                throw new IllegalStateException(PostReader.CHARSET
+                    + " is not a single-byte charset");
+
+            char[] table = new char[all.length];
+            decoded.get(table);
+
+            return table;
+        }
+        catch (CharacterCodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package business;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves and loads trained ModelStatistics, so a scoring process can start
+ * without reading the training set
+ * 
+ * <p>
+ * Layout (big-endian): magic, version, CRC32 of the payload, and payload
+ * length, then the payload of the hour, day of week, month, and Post Type
+ * ratio tables (each an int length and doubles), the keyword count and
+ * string heap length, each keyword's ratio, each keyword's heap start
+ * (count + 1), and the UTF-16 keyword string heap.
+ * </p>
+ * 
+ * <p>
+ * Loading reads the whole file onto the heap, then copies the tables out
+ * and interns each keyword into the shared KeywordDictionary, since
+ * dictionary IDs differ between processes. Nothing is scored from the
+ * file itself.
+ * </p>
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class ModelFile {
+
+    /* ModelFile Values */
+
+    public static final int MAGIC = 0x424D444C; // "BMDL"
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+
+    /* ModelFile Constructor */
+
+    /**
+     * ModelFile only has static methods
+     */
+    private ModelFile() {
+    }
+
+
+    /* ModelFile Methods */
+
+    /**
+     * Save ModelStatistics to a model file
+     * 
+     * @param model
+     *            ModelStatistics to save
+     * @param file
+     *            Model file to create (or replace)
+     * @throws IOException
+     *             If writing fails or the model is too large
+     */
+    public static void save(ModelStatistics model, Path file)
+        throws IOException {
+
+        KeywordDictionary dictionary = KeywordDictionary.getShared();
+        double[] ratios = model.keywordRatios();
+
+        int keywordCount = 0;
+        long heapLength = 0;
+
+        for (int id = 0; id < ratios.length; id++) {
+            if (!Double.isNaN(ratios[id])) {
+                keywordCount++;
+                heapLength += dictionary.getKeyword(id).length();
+            }
+        }
+
+        long payloadLength = tableBytes(ModelStatistics.HOURS)
+            + tableBytes(ModelStatistics.DAYS_OF_WEEK) + tableBytes(
+                ModelStatistics.MONTHS) + tableBytes(ModelStatistics.NUM_TYPES)
+            + 2L * Integer.BYTES + (long)Double.BYTES * keywordCount
+            + (long)Integer.BYTES * (keywordCount + 1) + 2L * heapLength;
+
+        if (HEADER_SIZE + payloadLength > Integer.MAX_VALUE)
+            throw new IOException("Model of " + payloadLength
+                + " bytes is too large to save");
+
+        ByteBuffer payload = ByteBuffer.allocate((int)payloadLength);
+
+        putTable(payload, model.getHours());
+        putTable(payload, model.getDays());
+        putTable(payload, model.getMonths());
+        putTable(payload, model.getTypes());
+
+        payload.putInt(keywordCount);
+        payload.putInt((int)heapLength);
+
+        for (double ratio : ratios) {
+            if (!Double.isNaN(ratio))
+                payload.putDouble(ratio);
+        }
+
+        int start = 0;
+
+        for (int id = 0; id < ratios.length; id++) {
+            if (!Double.isNaN(ratios[id])) {
+                payload.putInt(start);
+                start += dictionary.getKeyword(id).length();
+            }
+        }
+
+        payload.putInt(start);
+
+        for (int id = 0; id < ratios.length; id++) {
+            if (!Double.isNaN(ratios[id])) {
+
+                String keyword = dictionary.getKeyword(id);
+
+                for (int i = 0; i < keyword.length(); i++) {
+                    payload.putChar(keyword.charAt(i));
+                }
+            }
+        }
+
+        payload.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt((int)crc.getValue());
+        header.putLong(payloadLength);
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer[] buffers = { header, payload };
+
+            while (payload.hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+
+    /**
+     * Load ModelStatistics from a model file
+     * 
+     * @param file
+     *            Model file
+     * @return Loaded ModelStatistics, keyword ratios indexed by shared
+     *         KeywordDictionary ID
+     * @throws IOException
+     *             If file cannot be read, is not a current model file,
+     *             fails its checksum, or has a bad keyword table
+     */
+    public static ModelStatistics load(Path file) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.READ)) {
+
+            long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+                throw new IOException(file + " is not a model file");
+
+            ByteBuffer buffer = ByteBuffer.allocate((int)size);
+
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0)
+                    throw new IOException(file + " is truncated");
+            }
+
+            buffer.flip();
+
+            if (buffer.getInt() != MAGIC)
+                throw new IOException(file + " is not a model file");
+
+            int version = buffer.getInt();
+
+            if (version != VERSION)
+                throw new IOException(file + " is model version " + version
+                    + ", expected " + VERSION);
+
+            int expectedCrc = buffer.getInt();
+            long payloadLength = buffer.getLong();
+
+            if (payloadLength != size - HEADER_SIZE)
+                throw new IOException(file + " is truncated");
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+
+            if ((int)crc.getValue() != expectedCrc)
+                throw new IOException(file + " fails its checksum");
+
+            double[] hours = getTable(buffer, ModelStatistics.HOURS);
+            double[] days = getTable(buffer, ModelStatistics.DAYS_OF_WEEK);
+            double[] months = getTable(buffer, ModelStatistics.MONTHS);
+            double[] types = getTable(buffer, ModelStatistics.NUM_TYPES);
+
+            int keywordCount = buffer.getInt();
+            int heapLength = buffer.getInt();
+
+            if (keywordCount < 0 || heapLength < 0 || buffer.remaining()
+                != (long)Double.BYTES * keywordCount + (long)Integer.BYTES
+                    * (keywordCount + 1) + (long)Character.BYTES * heapLength)
+                throw new IOException(file + " has a bad keyword table");
+
+            double[] ratios = new double[keywordCount];
+            buffer.asDoubleBuffer().get(ratios);
+            buffer.position(buffer.position() + Double.BYTES * keywordCount);
+
+            int[] starts = new int[keywordCount + 1];
+            buffer.asIntBuffer().get(starts);
+            buffer.position(buffer.position() + Integer.BYTES
+                * (keywordCount + 1));
+
+            if (starts[0] != 0 || starts[keywordCount] != heapLength)
+                throw new IOException(file + " has a bad keyword table");
+
+            for (int k = 0; k < keywordCount; k++) {
+                if (starts[k] > starts[k + 1])
+                    throw new IOException(file + " has a bad keyword table");
+            }
+
+            CharBuffer heap = buffer.asCharBuffer();
+
+            KeywordDictionary dictionary = KeywordDictionary.getShared();
+            int[] ids = new int[keywordCount];
+            int maxId = -1;
+
+            for (int k = 0; k < keywordCount; k++) {
+                ids[k] = dictionary.intern(heap.subSequence(starts[k],
+                    starts[k + 1]).toString());
+                maxId = Math.max(maxId, ids[k]);
+            }
+
+            double[] keywords = new double[maxId + 1];
+            Arrays.fill(keywords, Double.NaN);
+
+            for (int k = 0; k < keywordCount; k++) {
+                keywords[ids[k]] = ratios[k];
+            }
+
+            return new ModelStatistics(hours, days, months, types, keywords);
+        }
+    }
+
+
+    /**
+     * Get bytes taken by a ratio table
+     * 
+     * @param length
+     *            Table length
+     * @return Bytes of length and ratios
+     */
+    private static long tableBytes(int length) {
+        return Integer.BYTES + (long)Double.BYTES * length;
+    }
+
+
+    /**
+     * Put a ratio table
+     * 
+     * @param buffer
+     *            Payload buffer
+     * @param table
+     *            Ratios
+     */
+    private static void putTable(ByteBuffer buffer, double[] table) {
+
+        buffer.putInt(table.length);
+
+        for (double ratio : table) {
+            buffer.putDouble(ratio);
+        }
+    }
+
+
+    /**
+     * Get a ratio table
+     * 
+     * @param buffer
+     *            Payload buffer
+     * @param length
+     *            Expected table length
+     * @return Ratios
+     * @throws IOException
+     *             If the table has another length
+     */
+    private static double[] getTable(ByteBuffer buffer, int length)
+        throws IOException {
+
+        if (buffer.getInt() != length)
+            throw new IOException("Model table should hold " + length
+                + " ratios");
+
+        double[] table = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            table[i] = buffer.getDouble();
+        }
+
+        return table;
+    }
+}
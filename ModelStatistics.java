@@ -0,0 +1,236 @@
+package business;
+
+import java.time.DayOfWeek;
+
+/**
+ * Immutable Engagement/Follower ratios calculated from a training set
+ * (hour, day of week, month, Post Type, and keyword ratios)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class ModelStatistics {
+
+    /* ModelStatistics Values */
+
+    public static final int HOURS = 24;
+    public static final int DAYS_OF_WEEK = 7;
+    public static final int MONTHS = 12;
+    public static final int NUM_TYPES = 3;
+
+    public static final int SUN = 0;
+    public static final int PHO = 0, ALB = 1, VID = 2;
+
+
+    /* ModelStatistics Variables */
+
+    private final double[] hours;
+    private final double[] days;
+    private final double[] months;
+    private final double[] types;
+
+    // Indexed by KeywordDictionary ID, NaN for keywords never seen
+    private final double[] keywords;
+
+
+    /* ModelStatistics Constructor */
+
+    /**
+     * Construct ModelStatistics from ratio arrays, which are copied
+     * 
+     * @param h
+     *            Hour ratios
+     * @param d
+     *            Day of week ratios (SUN = 0)
+     * @param m
+     *            Month ratios (January = 0)
+     * @param t
+     *            Post Type ratios (PHO, ALB, VID)
+     * @param k
+     *            Keyword ratios by KeywordDictionary ID, NaN if not present
+     */
+    public ModelStatistics(
+        double[] h,
+        double[] d,
+        double[] m,
+        double[] t,
+        double[] k) {
+
+        hours = h.clone();
+        days = d.clone();
+        months = m.clone();
+        types = t.clone();
+        keywords = k.clone();
+    }
+
+
+    /* ModelStatistics Methods */
+
+    /**
+     * Get day of week index (SUN = 0 to SAT = 6)
+     * 
+     * @param day
+     *            Day of week
+     * @return Day of week index
+     */
+    public static int dayIndex(DayOfWeek day) {
+        return day.getValue() % DAYS_OF_WEEK;
+    }
+
+
+    /**
+     * Get Post Type index (PHO, ALB, or VID)
+     * 
+     * @param type
+     *            Post Type
+     * @return Post Type index, or -1 for unknown types
+     */
+    public static int typeIndex(PostType type) {
+
+        switch (type) {
+            case PHOTO:
+                return PHO;
+            case ALBUM:
+                return ALB;
+            case VIDEO:
+                return VID;
+            default:
+                return -1;
+        }
+    }
+
+
+    /**
+     * Get ratio for hour posted
+     * 
+     * @param hour
+     *            Hour of day (0 to 23)
+     * @return Hour ratio
+     */
+    public double getHourRatio(int hour) {
+        return hours[hour];
+    }
+
+
+    /**
+     * Get ratio for day of week posted
+     * 
+     * @param day
+     *            Day of week
+     * @return Day of week ratio
+     */
+    public double getDayRatio(DayOfWeek day) {
+        return days[dayIndex(day)];
+    }
+
+
+    /**
+     * Get ratio for month posted
+     * 
+     * @param month
+     *            Month value (1 to 12)
+     * @return Month ratio
+     */
+    public double getMonthRatio(int month) {
+        return months[month - 1];
+    }
+
+
+    /**
+     * Get ratio for Post Type
+     * 
+     * @param type
+     *            Post Type
+     * @return Post Type ratio, or -1.0 for unknown types
+     */
+    public double getTypeRatio(PostType type) {
+        int index = typeIndex(type);
+
+        return index >= 0 ? types[index] : -1.0;
+    }
+
+
+    /**
+     * Get ratio for keyword ID
+     * 
+     * @param id
+     *            KeywordDictionary ID
+     * @return Keyword ratio, NaN if keyword was never seen
+     */
+    public double getKeywordRatio(int id) {
+        return id >= 0 && id < keywords.length ? keywords[id] : Double.NaN;
+    }
+
+
+    /**
+     * Check if keyword ID was seen in training set
+     * 
+     * @param id
+     *            KeywordDictionary ID
+     * @return If keyword has a ratio
+     */
+    public boolean hasKeyword(int id) {
+        return !Double.isNaN(getKeywordRatio(id));
+    }
+
+
+    /**
+     * Get keyword ratios without copying, for scoring within the package
+     * 
+     * @return Array of keyword ratios by KeywordDictionary ID
+     */
+    double[] keywordRatios() {
+        return keywords;
+    }
+
+
+    /**
+     * Get copy of hour ratios
+     * 
+     * @return Array of hour ratios
+     */
+    public double[] getHours() {
+        return hours.clone();
+    }
+
+
+    /**
+     * Get copy of day of week ratios
+     * 
+     * @return Array of day of week ratios
+     */
+    public double[] getDays() {
+        return days.clone();
+    }
+
+
+    /**
+     * Get copy of month ratios
+     * 
+     * @return Array of month ratios
+     */
+    public double[] getMonths() {
+        return months.clone();
+    }
+
+
+    /**
+     * Get copy of Post Type ratios
+     * 
+     * @return Array of Post Type ratios
+     */
+    public double[] getTypes() {
+        return types.clone();
+    }
+
+
+    /**
+     * Get copy of keyword ratios
+     * 
+     * @return Array of keyword ratios by KeywordDictionary ID
+     */
+    public double[] getKeywordRatios() {
+        return keywords.clone();
+    }
+}
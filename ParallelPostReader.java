@@ -0,0 +1,516 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a memory-mapped Post file by splitting it into byte ranges that are
+ * parsed on a fork-join pool and merged back in file order
+ * (A range is only trusted if the range before it ended exactly on its
+ * start; any other range is re-parsed in order, so results always equal
+ * MappedPostReader's)
+ *
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class ParallelPostReader {
+
+    /* ParallelPostReader Values */
+
+    private static final long WINDOW_SIZE = 1L << 30;
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+
+    private static final int[] CHECK_CHUNK_SIZES = { 50, 97, 300, 1000 };
+    private static final int CHECK_THREADS = 4;
+    private static final int CHECK_ROWS = 600;
+    private static final long CHECK_SEED = 42;
+
+
+    /* ParallelPostReader Variables */
+
+    private ForkJoinPool pool;
+    private int minChunkSize;
+
+
+    /* ParallelPostReader Constructors */
+
+    /**
+     * Construct a ParallelPostReader on the common fork-join pool
+     */
+    public ParallelPostReader() {
+        this(ForkJoinPool.commonPool(), MIN_CHUNK_SIZE);
+    }
+
+
+    /**
+     * Construct a ParallelPostReader on a given pool
+     *
+     * @param p
+     *            Pool to parse chunks on
+     * @param minChunk
+     *            Smallest byte range worth a task of its own
+     */
+    public ParallelPostReader(ForkJoinPool p, int minChunk) {
+        pool = p;
+        minChunkSize = Math.max(minChunk, 1);
+    }
+
+
+    /* ParallelPostReader Methods */
+
+    /**
+     * Check that parallel reads equal MappedPostReader's at several chunk
+     * sizes (Usage: [file], a crafted file mixing stray quotes in unquoted
+     * Descriptions with multi-line quoted ones is used by default)
+     *
+     * @param args
+     *            Optional Post file to check
+     * @throws IOException
+     *             If a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+
+        Path file;
+
+        if (args.length > 0)
+            file = Paths.get(args[0]);
+        else {
+            file = Files.createTempFile("crafted", ".csv");
+            file.toFile().deleteOnExit();
+            writeCraftedFile(file);
+        }
+
+        ArrayList<Post> expected = new MappedPostReader().readPosts(file,
+            true);
+
+        boolean matched = true;
+
+        for (int chunkSize : CHECK_CHUNK_SIZES) {
+
+            ForkJoinPool pool = new ForkJoinPool(CHECK_THREADS);
+
+            try {
+                ArrayList<Post> posts = new ParallelPostReader(pool,
+                    chunkSize).readPosts(file, true);
+
+                int differing = countDiffering(expected, posts);
+
+                System.out.println("Chunk size " + chunkSize + ": "
+                    + posts.size() + " Posts, " + differing
+                    + " differ from " + expected.size() + " read in order");
+
+                matched &= differing == 0 && posts.size() == expected
+                    .size();
+            }
+            finally {
+                pool.shutdown();
+            }
+        }
+
+        if (!matched)
+            System.exit(1);
+    }
+
+
+    /**
+     * Write a Post file whose quote counts mislead splitRecords
+     * (Unquoted Descriptions holding a stray quote, then Descriptions
+     * quoted over several lines)
+     *
+     * @param file
+     *            File to write
+     * @throws IOException
+     *             If file cannot be written
+     */
+    private static void writeCraftedFile(Path file) throws IOException {
+
+        try (BufferedWriter out = Files.newBufferedWriter(file,
+            PostReader.CHARSET)) {
+
+            out.write("Engagements,Followers at Posting,Created,Type,"
+                + "Description\n");
+
+            Random random = new Random(CHECK_SEED);
+
+            for (int i = 0; i < CHECK_ROWS; i++) {
+
+                int kind = random.nextInt(4);
+
+                out.write(i + "," + (1000 + i) + ",2019-05-01 12:"
+                    + String.format("%02d", i % 60) + ":00 EDT,Photo,");
+
+                if (kind == 0)
+                    out.write("He is 6'7\" and @tall #" + i);
+                else if (kind == 1)
+                    out.write("\"multi line\n@second, \"\"line\"\"\n#" + i
+                        + "\"");
+                else
+                    out.write("Plain @post #" + i);
+
+                out.write('\n');
+            }
+        }
+    }
+
+
+    /**
+     * Count Posts that differ between two reads
+     *
+     * @param expected
+     *            Posts read in order
+     * @param actual
+     *            Posts read in parallel
+     * @return Number of positions whose Posts differ
+     */
+    private static int countDiffering(List<Post> expected, List<Post> actual) {
+
+        int differing = Math.abs(expected.size() - actual.size());
+
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+
+            Post e = expected.get(i);
+            Post a = actual.get(i);
+
+            if (e.getEngagements() != a.getEngagements() || e
+                .getFollowers() != a.getFollowers() || !e.getDateTime()
+                    .equals(a.getDateTime()) || e.getPostType() != a
+                        .getPostType() || !e.getDescription().equals(a
+                            .getDescription()))
+                differing++;
+        }
+
+        return differing;
+    }
+
+
+    /**
+     * Map a Post file and read it into a list of Posts in file order
+     *
+     * @param file
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return List of Posts from file
+     * @throws IOException
+     *             If file cannot be mapped
+     */
+    public ArrayList<Post> readPosts(Path file, boolean hasEngagements)
+        throws IOException {
+
+        ArrayList<Post> posts = new ArrayList<Post>();
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            long base = 0;
+
+            while (base < size) {
+
+                long length = Math.min(WINDOW_SIZE, size - base);
+                boolean atEnd = base + length == size;
+
+                MappedByteBuffer window = channel.map(
+                    FileChannel.MapMode.READ_ONLY, base, length);
+
+                int consumed = readWindow(window, (int)length, atEnd,
+                    hasEngagements, posts);
+
+                if (consumed == 0)
+                    throw new IOException("Record at byte " + base
+                        + " is larger than the mapping window");
+
+                base += consumed;
+            }
+        }
+
+        return posts;
+    }
+
+
+    /**
+     * Parse a mapped window, which always starts on a record
+     * (Ranges are parsed in parallel as if each started on a record, then
+     * walked in order; a range whose start was not reached exactly by the
+     * ranges before it, or that failed to parse, is parsed in order from
+     * where the last trusted record ended)
+     *
+     * @param window
+     *            Mapped bytes
+     * @param length
+     *            Number of mapped bytes
+     * @param atEnd
+     *            If window ends at end of file
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @param posts
+     *            List to add parsed Posts to
+     * @return Offset after last complete record in window
+     * @throws IOException
+     *             If a chunk task fails unexpectedly
+     */
+    private int readWindow(
+        ByteBuffer window,
+        int length,
+        boolean atEnd,
+        boolean hasEngagements,
+        ArrayList<Post> posts) throws IOException {
+
+        int[] bounds = splitRecords(window, length);
+        int chunks = bounds.length - 1;
+
+        List<Callable<ChunkResult>> tasks =
+            new ArrayList<Callable<ChunkResult>>(chunks);
+
+        for (int i = 0; i < chunks; i++) {
+
+            int start = bounds[i];
+            int end = bounds[i + 1];
+
+            // Only the end of file may close a record early
+            boolean lastInFile = atEnd && end == length;
+
+            tasks.add(() -> parseChunk(window, start, end, lastInFile,
+                hasEngagements));
+        }
+
+        List<Future<ChunkResult>> futures = pool.invokeAll(tasks);
+
+        MappedPostReader inOrder = new MappedPostReader();
+
+        // Offset after the last record known to be read correctly
+        int pos = 0;
+
+        for (int i = 0; i < chunks; i++) {
+
+            boolean lastInFile = atEnd && bounds[i + 1] == length;
+
+            ChunkResult result = null;
+
+            if (pos == bounds[i])
+                result = getResult(futures.get(i));
+
+            if (result != null) {
+                posts.addAll(result.posts);
+                pos = result.end;
+            }
+            else
+                pos = inOrder.parseRange(window, pos, bounds[i + 1],
+                    lastInFile, hasEngagements, posts);
+        }
+
+        return pos;
+    }
+
+
+    /**
+     * Get result of a chunk task
+     *
+     * @param future
+     *            Chunk task
+     * @return Parsed chunk, or null if chunk could not be parsed
+     * @throws IOException
+     *             If chunk task fails unexpectedly
+     */
+    private ChunkResult getResult(Future<ChunkResult> future)
+        throws IOException {
+
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+
+            // A misaligned chunk can start mid-record, it is re-parsed
+            if (e.getCause() instanceof RuntimeException)
+                return null;
+
+            throw new IOException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+
+    /**
+     * Parse one chunk of records
+     *
+     * @param window
+     *            Mapped bytes
+     * @param start
+     *            Offset of first record in chunk
+     * @param end
+     *            Offset of first record after chunk
+     * @param lastInFile
+     *            If end is end of file
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return Parsed Posts and offset after last complete record
+     */
+    private ChunkResult parseChunk(
+        ByteBuffer window,
+        int start,
+        int end,
+        boolean lastInFile,
+        boolean hasEngagements) {
+
+        ChunkResult result = new ChunkResult();
+
+        result.end = new MappedPostReader().parseRange(window, start, end,
+            lastInFile, hasEngagements, result.posts);
+
+        return result;
+    }
+
+
+    /**
+     * Split a window into byte ranges that likely start on records
+     * (Quote counts of each range are taken in parallel, so each boundary
+     * knows whether it falls inside a quoted Description; a stray quote in
+     * an unquoted field throws this off, which readWindow detects)
+     *
+     * @param window
+     *            Mapped bytes
+     * @param length
+     *            Number of mapped bytes
+     * @return Range boundaries, first is 0 and last is length
+     * @throws IOException
+     *             If a counting task fails unexpectedly
+     */
+    private int[] splitRecords(ByteBuffer window, int length)
+        throws IOException {
+
+        int chunks = (int)Math.min(pool.getParallelism()
+            * (long)CHUNKS_PER_THREAD, Math.max(1, length / minChunkSize));
+
+        int[] starts = new int[chunks + 1];
+
+        for (int i = 0; i <= chunks; i++) {
+            starts[i] = (int)((long)length * i / chunks);
+        }
+
+        List<Callable<Integer>> counts = new ArrayList<Callable<Integer>>(
+            chunks);
+
+        for (int i = 0; i < chunks; i++) {
+
+            int start = starts[i];
+            int end = starts[i + 1];
+
+            counts.add(() -> countQuotes(window, start, end));
+        }
+
+        int[] bounds = new int[chunks + 1];
+        bounds[chunks] = length;
+
+        try {
+            boolean inQuotes = false;
+
+            List<Future<Integer>> futures = pool.invokeAll(counts);
+
+            for (int i = 1; i < chunks; i++) {
+
+                inQuotes ^= (futures.get(i - 1).get() & 1) == 1;
+
+                bounds[i] = Math.max(bounds[i - 1], nextRecord(window,
+                    starts[i], length, inQuotes));
+            }
+        }
+        catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        return bounds;
+    }
+
+
+    /**
+     * Count quote bytes in a range
+     *
+     * @param window
+     *            Mapped bytes
+     * @param start
+     *            First offset (inclusive)
+     * @param end
+     *            Last offset (exclusive)
+     * @return Number of quotes
+     */
+    private static int countQuotes(ByteBuffer window, int start, int end) {
+
+        int count = 0;
+
+        for (int i = start; i < end; i++) {
+            if (window.get(i) == QUOTE)
+                count++;
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Find the first record starting at or after an offset
+     *
+     * @param window
+     *            Mapped bytes
+     * @param from
+     *            Offset to search from
+     * @param length
+     *            Number of mapped bytes
+     * @param inQuotes
+     *            If from falls inside a quoted field
+     * @return Offset of next record, or length if none
+     */
+    private static int nextRecord(
+        ByteBuffer window,
+        int from,
+        int length,
+        boolean inQuotes) {
+
+        for (int i = from; i < length; i++) {
+
+            byte b = window.get(i);
+
+            if (b == QUOTE)
+                inQuotes = !inQuotes;
+            else if (b == LF && !inQuotes)
+                return i + 1;
+        }
+
+        return length;
+    }
+
+
+    /**
+     * Posts parsed from one chunk
+     */
+    private static class ChunkResult {
+
+        private ArrayList<Post> posts = new ArrayList<Post>();
+        private int end;
+    }
+}
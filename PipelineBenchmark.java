@@ -0,0 +1,354 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Benchmarks every pipeline stage over datasets made by repeating the
+ * rows of "training_set.csv", reporting throughput and allocation
+ * (Runs offline with only the JDK: each benchmark is warmed up, then
+ * timed over several measured iterations)
+ * 
+ * <p>
+ * Usage: PipelineBenchmark [scales] [warmups] [iterations], where scales
+ * is a comma separated list of how many copies of the training rows each
+ * dataset holds (default "1,10").
+ * </p>
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class PipelineBenchmark {
+
+    /* PipelineBenchmark Values */
+
+    private static final String TRAINING_FILE = "training_set.csv";
+
+    private static final String DEFAULT_SCALES = "1,10";
+    private static final int DEFAULT_WARMUPS = 3;
+    private static final int DEFAULT_ITERATIONS = 5;
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private static final String ROW_FORMAT =
+        "%-22s %6s %10s %10s %12s %10s %10s%n";
+
+
+    /* PipelineBenchmark Variables */
+
+    private int warmups;
+    private int iterations;
+
+    private com.sun.management.ThreadMXBean threads;
+
+
+    /* PipelineBenchmark Constructor */
+
+    /**
+     * Construct a PipelineBenchmark
+     * 
+     * @param w
+     *            Warmup iterations per benchmark
+     * @param i
+     *            Measured iterations per benchmark
+     */
+    public PipelineBenchmark(int w, int i) {
+        warmups = w;
+        iterations = i;
+
+        threads = (com.sun.management.ThreadMXBean)ManagementFactory
+            .getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+
+    /* PipelineBenchmark Methods */
+
+    /**
+     * Main method, runs every benchmark at every scale
+     * 
+     * @param args
+     *            Optional scales, warmup iterations, and measured
+     *            iterations
+     * @throws IOException
+     *             If a dataset cannot be made
+     */
+    public static void main(String[] args) throws IOException {
+
+        String scales = args.length > 0 ? args[0] : DEFAULT_SCALES;
+        int w = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WARMUPS;
+        int i = args.length > 2 ? Integer.parseInt(args[2])
+            : DEFAULT_ITERATIONS;
+
+        PipelineBenchmark benchmark = new PipelineBenchmark(w, i);
+
+        System.out.printf(ROW_FORMAT, "Benchmark", "Scale", "Rows", "ms/op",
+            "rows/s", "MB/s alloc", "B/row");
+
+        for (String scale : scales.split(",")) {
+            benchmark.runAll(Integer.parseInt(scale.trim()));
+        }
+    }
+
+
+    /**
+     * Run every benchmark over one dataset
+     * 
+     * @param scale
+     *            Copies of the training rows in dataset
+     * @throws IOException
+     *             If dataset cannot be made
+     */
+    public void runAll(int scale) throws IOException {
+
+        Path csv = makeDataset(Paths.get(TRAINING_FILE), scale);
+        Path out = Files.createTempFile("benchmark", ".csv");
+
+        try {
+            ArrayList<Post> posts = new MappedPostReader().readPosts(csv,
+                true);
+            ModelStatistics model = new StatFinder(posts).calculateAll();
+            BatchScorer batchScorer = new BatchScorer();
+            KeywordTokenizer tokenizer = new KeywordTokenizer();
+            int[] keywordCount = new int[1];
+
+            int rows = posts.size();
+
+            run("parse.streaming", scale, rows, () -> {
+                try (PostReader.PostSource source = new PostReader()
+                    .openPosts(csv, true)) {
+
+                    int read = 0;
+
+                    while (source.next() != null) {
+                        read++;
+                    }
+
+                    return read;
+                }
+            });
+            run("parse.mapped", scale, rows, () -> new MappedPostReader()
+                .readPosts(csv, true).size());
+            run("parse.parallel", scale, rows, () -> new ParallelPostReader()
+                .readPosts(csv, true).size());
+
+            run("keywords.tokenize", scale, rows, () -> {
+                for (Post post : posts) {
+                    tokenizer.tokenize(post.getDescriptionText(),
+                        (chars, length) -> keywordCount[0]++);
+                }
+                return keywordCount[0];
+            });
+            run("keywords.hasKeywords", scale, rows, () -> {
+                int found = 0;
+                for (Post post : posts) {
+                    if (post.hasKeywords() != null)
+                        found++;
+                }
+                return found;
+            });
+
+            run("stats.calculateAll", scale, rows, () -> new StatFinder(posts)
+                .calculateAll().getKeywordRatios().length);
+            run("stats.calculateAllPar", scale, rows, () -> new StatFinder(
+                posts).calculateAllParallel().getKeywordRatios().length);
+            run("stats.byKeyword", scale, rows, () -> new StatFinder(posts)
+                .calculateByKeyword().getRatios().length);
+            run("stats.byDay", scale, rows, () -> new StatFinder(posts)
+                .calculateByDay().length);
+            run("stats.byType", scale, rows, () -> new StatFinder(posts)
+                .calculateByType().length);
+            run("stats.byHour", scale, rows, () -> new StatFinder(posts)
+                .calculateByHour().length);
+            run("stats.byMonth", scale, rows, () -> new StatFinder(posts)
+                .calculateByMonth().length);
+
+            run("score.estimateEngages", scale, rows, () -> {
+                long sum = 0;
+                for (Post post : posts) {
+                    post.estimateEngages(model, "Training");
+                    sum += post.getEstimation();
+                }
+                return sum;
+            });
+            run("score.batch", scale, rows, () -> batchScorer.score(posts,
+                model).length);
+
+            int[] estimates = batchScorer.score(posts, model);
+
+            run("write.holdout", scale, rows, () -> {
+                try (PostCsvWriter writer = new PostCsvWriter(out)) {
+                    writer.writeHeader();
+                    for (int i = 0; i < rows; i++) {
+                        writer.writePost(posts.get(i), estimates[i]);
+                    }
+                }
+                return rows;
+            });
+        }
+        finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(out);
+        }
+    }
+
+
+    /**
+     * Warm up and measure one benchmark, printing its results
+     * 
+     * @param name
+     *            Benchmark name
+     * @param scale
+     *            Dataset scale
+     * @param rows
+     *            Rows handled per operation
+     * @param body
+     *            Operation to measure
+     * @throws IOException
+     *             If operation fails
+     */
+    private void run(String name, int scale, int rows, Operation body)
+        throws IOException {
+
+        long blackhole = 0;
+
+        for (int i = 0; i < warmups; i++) {
+            blackhole += body.run();
+        }
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+
+        for (int i = 0; i < iterations; i++) {
+
+            long[] ids = threads.getAllThreadIds();
+            long[] before = threads.getThreadAllocatedBytes(ids);
+            long start = System.nanoTime();
+
+            blackhole += body.run();
+
+            totalNanos += System.nanoTime() - start;
+            totalBytes += allocatedSince(ids, before);
+        }
+
+        double seconds = totalNanos / NANOS_PER_SECOND;
+        long handled = (long)rows * iterations;
+
+        System.out.printf(ROW_FORMAT, name, scale, rows, String.format(
+            "%.3f", totalNanos / NANOS_PER_MILLI / iterations), String
+                .format("%.0f", handled / seconds), String.format("%.1f",
+                    totalBytes / BYTES_PER_MB / seconds), String.format(
+                        "%.1f", (double)totalBytes / handled));
+
+        // Keeps results alive so the JIT cannot drop the work
+        if (blackhole == Long.MIN_VALUE)
+            System.out.println();
+    }
+
+
+    /**
+     * Get bytes allocated by every thread since a reading
+     * (Threads started since the reading count from zero, threads that
+     * have ended are missed)
+     * 
+     * @param ids
+     *            Thread IDs of earlier reading
+     * @param before
+     *            Allocated bytes of earlier reading
+     * @return Bytes allocated since reading
+     */
+    private long allocatedSince(long[] ids, long[] before) {
+
+        long[] nowIds = threads.getAllThreadIds();
+        long[] now = threads.getThreadAllocatedBytes(nowIds);
+
+        long total = 0;
+
+        for (int i = 0; i < nowIds.length; i++) {
+
+            if (now[i] < 0)
+                continue;
+
+            long earlier = 0;
+
+            for (int j = 0; j < ids.length; j++) {
+                if (ids[j] == nowIds[i] && before[j] >= 0) {
+                    earlier = before[j];
+                    break;
+                }
+            }
+
+            total += now[i] - earlier;
+        }
+
+        return total;
+    }
+
+
+    /**
+     * Make a dataset holding the rows of a Post file a number of times
+     * 
+     * @param source
+     *            Post CSV file with a header row
+     * @param scale
+     *            Copies of the rows
+     * @return Temporary dataset file
+     * @throws IOException
+     *             If source cannot be read or dataset written
+     */
+    public static Path makeDataset(Path source, int scale) throws IOException {
+
+        byte[] bytes = Files.readAllBytes(source);
+
+        int bodyStart = 0;
+
+        while (bodyStart < bytes.length && bytes[bodyStart] != '\n') {
+            bodyStart++;
+        }
+
+        bodyStart = Math.min(bodyStart + 1, bytes.length);
+
+        Path dataset = Files.createTempFile("benchmark", ".csv");
+
+        try (OutputStream out = Files.newOutputStream(dataset)) {
+
+            out.write(bytes, 0, bodyStart);
+
+            for (int i = 0; i < scale; i++) {
+
+                out.write(bytes, bodyStart, bytes.length - bodyStart);
+
+                // Next copy must start on its own line
+                if (bytes.length > bodyStart && bytes[bytes.length - 1] != '\n')
+                    out.write(new byte[] { '\r', '\n' });
+            }
+        }
+
+        return dataset;
+    }
+
+
+    /**
+     * One benchmark operation
+     */
+    private interface Operation {
+
+        /**
+         * Run operation once
+         * 
+         * @return Result to keep alive
+         * @throws IOException
+         *             If operation fails
+         */
+        long run() throws IOException;
+    }
+}
@@ -2,8 +2,7 @@ package business;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Scanner;
-import business.KeywordMap.PostData;
+import java.util.Arrays;
 
 /**
  * Represents an Instagram Post
@@ -15,7 +14,12 @@ import business.KeywordMap.PostData;
 public class Post {
     
     /* Post Values */
-    private static final double INITIAL_CRITERIA = 4.0;
+    static final double INITIAL_CRITERIA = 4.0;
+
+    private static final int[] NO_KEYWORDS = new int[0];
+
+    private static final ThreadLocal<KeywordCollector> COLLECTOR = ThreadLocal
+        .withInitial(KeywordCollector::new);
 
     /* Post Variables */
 
@@ -24,7 +28,10 @@ public class Post {
     private LocalDateTime dateTime;
     private String timeZone;
     private PostType postType;
-    private String description;
+    private CharSequence description;
+
+    private volatile int[] keywordIds;
+    private volatile KnownKeywords knownKeywords;
 
     private int estEngages;
 
@@ -45,7 +52,7 @@ public class Post {
      * @param pt
      *            Post Type
      * @param desc
-     *            Post Description
+     *            Post Description (may be a lazily decoded view)
      */
     public Post(
         int e,
@@ -53,7 +60,7 @@ public class Post {
         LocalDateTime dt,
         String tz,
         PostType pt,
-        String desc) {
+        CharSequence desc) {
 
         engagements = e;
         followers = f;
@@ -134,6 +141,21 @@ public class Post {
      * @return Post Description
      */
     public String getDescription() {
+
+        // Materialize lazily decoded descriptions once
+        if (!(description instanceof String))
+            description = description.toString();
+
+        return (String)description;
+    }
+
+
+    /**
+     * Get Post Description without making it a String
+     * 
+     * @return Post Description text (may be a lazily decoded view)
+     */
+    public CharSequence getDescriptionText() {
         return description;
     }
 
@@ -146,6 +168,8 @@ public class Post {
      */
     public void setDescription(String desc) {
         description = desc;
+        keywordIds = null;
+        knownKeywords = null;
     }
 
 
@@ -180,134 +204,103 @@ public class Post {
 
 
     /**
-     * Clean username/hashtag token
+     * Get KeywordDictionary IDs of usernames and hashtags in Post
+     * Description
+     * (Description is only tokenized on first call, until it is set again)
      * 
-     * @param cleanme
-     *            Token to clean
-     * @return Cleaned token
+     * @return Array of keyword IDs, empty if no keywords present
      */
-    private String cleanToken(String cleanme) {
+    public int[] getKeywordIds() {
 
-        String cleaned = "";
+        int[] found = keywordIds;
 
-        for (int i = 0; i < cleanme.length(); i++) {
-
-            char c = cleanme.charAt(i);
-
-            if (c == '' || c == ',' || c == ')' || c == '!' || c == '?'
-                || c == ':' || c == ';' || c == '"' || c == '\'' || c == '*'
-                || c == ']' || c == '')
-                break;
-            else if (c == '(' || c == '[')
-                continue;
-            else if (c == '.' && (i + 1) < cleanme.length()) {
-                if (cleanme.charAt(i + 1) == '.') {
-                    break;
-                }
-            }
-            else if (c == '.' && cleanme.charAt(0) == '#')
-                break;
-            else if (c == '.' && (i + 1) == cleanme.length())
-                break;
-            else if (c == '/')
-                cleaned += ' ';
-            else
-                cleaned += c;
+        if (found == null) {
+            found = COLLECTOR.get().collect(description);
+            keywordIds = found;
         }
 
-        return cleaned;
+        return found;
     }
 
 
     /**
-     * Clean description to evaluate usernames/hashtags
-     * (Get rid of characters that interfere w/ @'s and #'s)
+     * Get KeywordDictionary IDs of the usernames and hashtags in Post
+     * Description that are already known, without adding the rest
+     * (Used when scoring, so scored Posts never grow the dictionary;
+     * unknown keywords can have no trained ratio. IDs are kept until the
+     * dictionary grows)
      * 
-     * @param desc
-     *            Description to clean
-     * @return Cleaned Description
+     * @return Array of known keyword IDs, empty if none are known
      */
-    private String cleanDescription(String desc) {
+    public int[] getKnownKeywordIds() {
 
-        String cleaned = desc.toLowerCase();
+        int[] found = keywordIds;
 
-        cleaned = cleaned.replace('/', ' ');
-        cleaned = cleaned.replace('|', ' ');
-        cleaned = cleaned.replace('-', ' ');
-        cleaned = cleaned.replace("...", " ");
+        if (found != null)
+            return found;
 
-        return cleaned;
-    }
-    /**
-     * Add hashtag to hashtag list
-     * 
-     * @param keywords
-     *            List of keywords to add to
-     * @param tags
-     *            Hashtags to add
-     * @return Keyword list w/ added hashtags
-     */
-    private ArrayList<String> addHashtags(
-        ArrayList<String> keywords,
-        ArrayList<String> tags) {
+        int dictionarySize = KeywordDictionary.getShared().size();
+
+        KnownKeywords known = knownKeywords;
 
-        for (String tag : tags) {
-            tag = cleanToken(tag);
-            keywords.add(tag);
+        if (known == null || known.dictionarySize != dictionarySize) {
+            known = new KnownKeywords(COLLECTOR.get().lookup(description),
+                dictionarySize);
+            knownKeywords = known;
         }
 
-        return keywords;
+        return known.ids;
     }
 
+
     /**
-     * Get hashtags from token
+     * Set keyword IDs already found for Post Description, so it is never
+     * tokenized (used when loading a PostSnapshot)
      * 
-     * @param token
-     *            Token to evaluate
-     * @return List of hashtags
+     * @param ids
+     *            Shared KeywordDictionary IDs of Description keywords
      */
-    private ArrayList<String> getHashtags(String token) {
-
-        ArrayList<String> hashtags = new ArrayList<String>();
-
-        for (int i = 0; i < token.length(); i++) {
-
-            String currToken = "";
-
-            char c = token.charAt(i);
+    void setKeywordIds(int[] ids) {
+        keywordIds = ids.length == 0 ? NO_KEYWORDS : ids;
+    }
 
-            if (c == '#' && i > 0) {
-                hashtags.add(currToken);
-                currToken = "";
-            }
-            else {
-                currToken += c;
-            }
-        }
 
-        return hashtags;
+    /**
+     * Set IDs of the Post Description keywords already known, so the
+     * Description is not tokenized while the dictionary stays this size
+     * (used when loading a PostSnapshot of Posts that are only scored)
+     * 
+     * @param ids
+     *            Shared KeywordDictionary IDs of known keywords
+     * @param dictionarySize
+     *            Dictionary size before the IDs were looked up
+     */
+    void setKnownKeywordIds(int[] ids, int dictionarySize) {
+        knownKeywords = new KnownKeywords(ids.length == 0 ? NO_KEYWORDS : ids,
+            dictionarySize);
     }
 
+
     /**
-     * Add keyword to keyword list
+     * Get usernames and hashtags in Post Description
      * 
-     * @param keywords
-     *            Keyword list to add to
-     * @param token
-     *            Keyword token to add
-     * @return Keyword list with added tokens
+     * @return Array of keywords, empty if no keywords present
      */
-    private ArrayList<String> addKeyword(
-        ArrayList<String> keywords,
-        String token) {
+    public String[] getKeywords() {
+
+        int[] ids = getKeywordIds();
+        String[] found = new String[ids.length];
 
-        String cleaned = cleanToken(token);
+        KeywordDictionary dictionary = KeywordDictionary.getShared();
 
-        keywords.add(cleaned);
+        for (int i = 0; i < ids.length; i++) {
+            found[i] = dictionary.getKeyword(ids[i]);
+        }
 
-        return keywords;
+        return found;
     }
 
+
     /**
      * Check if Post Description contains usernames or hashtags
      * 
@@ -315,50 +308,22 @@ public class Post {
      */
     public ArrayList<String> hasKeywords() {
 
-        ArrayList<String> keywords = new ArrayList<String>();
-
-        String cleanDesc = cleanDescription(description);
-
-        Scanner descScan = new Scanner(cleanDesc);
+        String[] found = getKeywords();
 
-        while (descScan.hasNext()) {
-
-            String token = descScan.next();
-
-            if (token.startsWith("@") || token.startsWith("#")) {
-
-                int hashtagCount = token.length() - token.replace("#", "")
-                    .length();
-
-                if (hashtagCount <= 1) {
-
-                    keywords = addKeyword(keywords, token);
-                }
-                else {
-                    ArrayList<String> hashtags = getHashtags(token);
-
-                    keywords = addHashtags(keywords, hashtags);
-                }
-            }
-        }
-        descScan.close();
-
-        if (!keywords.isEmpty())
-            return keywords;
+        if (found.length > 0)
+            return new ArrayList<String>(Arrays.asList(found));
         else
             return null;
     }
 
     /* Criteria Weights */
-    // -> Video types have far more engagements than photo+album
-    // -> Significant keywords such as @kingjames and @stephencurry 
-    //      generate more engagements
+    // -> See CriteriaWeights.DEFAULT, WeightOptimizer searches for better
 
-    public final double typeWeight = 4.712; // Optimal: 4.712
-    public double dayWeight = 0.0001; // Optimal: 0.00001
-    public double timeWeight = 0.0005; // Optimal: 0.0005
-    public double monthWeight = 0.0009; // Optimal: 0.0009
-    public double keywordWeight = 0.476; // Optimal: 0.4756
+    public final double typeWeight = CriteriaWeights.DEFAULT.getTypeWeight();
+    public double dayWeight = CriteriaWeights.DEFAULT.getDayWeight();
+    public double timeWeight = CriteriaWeights.DEFAULT.getTimeWeight();
+    public double monthWeight = CriteriaWeights.DEFAULT.getMonthWeight();
+    public double keywordWeight = CriteriaWeights.DEFAULT.getKeywordWeight();
 
     /**
      * Estimate the number of engagements Post will have based on
@@ -390,49 +355,128 @@ public class Post {
         // MAPE: 26.246% when all weights 1.0
         // Optimal MAPE: 14.618%
 
-        double dayRatio = getDayRatio(days) * dayWeight;
-        double typeRatio = getTypeRatio(types) * typeWeight;
-        double timeRatio = hours[dateTime.getHour()] * timeWeight;
-        double monthRatio = months[dateTime.getMonthValue() - 1] * monthWeight;
-        
-        // 4 "categories", other than keywords
-        double criteriaCount = INITIAL_CRITERIA; 
+        applyEstimate(estimate(getDayRatio(days), getTypeRatio(types),
+            hours[dateTime.getHour()], months[dateTime.getMonthValue() - 1],
+            keywordMap.getRatios(), getWeights()), mode);
+    }
 
-        ArrayList<String> keywords = hasKeywords();
 
-        double estRatio = -1.0;
-        double totalRatio = dayRatio + typeRatio + timeRatio + monthRatio;
+    /**
+     * Estimate the number of engagements Post will have from calculated
+     * ModelStatistics
+     * 
+     * @param model
+     *            ModelStatistics calculated from training set
+     * @param mode
+     *            Switch between Training and Holdout sets
+     */
+    public void estimateEngages(ModelStatistics model, String mode) {
+        applyEstimate(predictEngages(model), mode);
+    }
 
-        if (keywords != null) {
-            for (String keyword : keywords) {
 
-                if (mode.equals("Holdout") && !keywordMap.hasKeyword(keyword))
-                    continue;
+    /**
+     * Predict the number of engagements Post will have from calculated
+     * ModelStatistics, without changing the Post
+     * 
+     * @param model
+     *            ModelStatistics calculated from training set
+     * @return Estimated Engagements
+     */
+    public int predictEngages(ModelStatistics model) {
+        return predictEngages(model, getWeights());
+    }
 
-                criteriaCount += 1.0;
 
-                PostData data = keywordMap.getPostData(keyword);
+    /**
+     * Predict the number of engagements Post will have from calculated
+     * ModelStatistics using given criteria weights
+     * 
+     * @param model
+     *            ModelStatistics calculated from training set
+     * @param weights
+     *            Criteria weights to use instead of the Post's own
+     * @return Estimated Engagements
+     */
+    public int predictEngages(ModelStatistics model, CriteriaWeights weights) {
+        return estimate(model.getDayRatio(dateTime.getDayOfWeek()), model
+            .getTypeRatio(postType), model.getHourRatio(dateTime.getHour()),
+            model.getMonthRatio(dateTime.getMonthValue()), model
+                .keywordRatios(), weights);
+    }
 
-                double engageAvg = data.getEngagments().doubleValue()
-                    / (double)data.getCount();
-                double followAvg = data.getFollowers().doubleValue()
-                    / (double)data.getCount();
 
-                double currRatio = (engageAvg / followAvg) * keywordWeight;
+    /**
+     * Get the Post's own criteria weights
+     * 
+     * @return Criteria weights
+     */
+    private CriteriaWeights getWeights() {
+        return new CriteriaWeights(typeWeight, dayWeight, timeWeight,
+            monthWeight, keywordWeight);
+    }
 
-                totalRatio += currRatio;
-            }
-        }
 
-        estRatio = totalRatio / criteriaCount;
+    /**
+     * Set estimated Engagements, which replace Engagements of Holdout Posts
+     * 
+     * @param estimate
+     *            Estimated Engagements
+     * @param mode
+     *            Switch between Training and Holdout sets
+     */
+    private void applyEstimate(int estimate, String mode) {
 
-        estEngages = (int)(estRatio * followers);
+        estEngages = estimate;
 
         if (mode.equals("Holdout")) {
             engagements = estEngages;
         }
     }
 
+
+    /**
+     * Average weighted criteria ratios with keyword ratios
+     * 
+     * @param dayRatio
+     *            Day of week ratio
+     * @param typeRatio
+     *            Post Type ratio
+     * @param hourRatio
+     *            Hour ratio
+     * @param monthRatio
+     *            Month ratio
+     * @param keywordRatios
+     *            Keyword ratios by ID, NaN for unknown keywords
+     * @param weights
+     *            Criteria weights
+     * @return Estimated Engagements
+     */
+    private int estimate(
+        double dayRatio,
+        double typeRatio,
+        double hourRatio,
+        double monthRatio,
+        double[] keywordRatios,
+        CriteriaWeights weights) {
+
+        double keywordCount = 0.0;
+        double keywordSum = 0.0;
+
+        for (int id : getKnownKeywordIds()) {
+
+            // Holdout Posts may mention keywords never seen in training
+            if (id >= keywordRatios.length || Double.isNaN(keywordRatios[id]))
+                continue;
+
+            keywordCount += 1.0;
+            keywordSum += keywordRatios[id];
+        }
+
+        return weights.estimate(followers, dayRatio, typeRatio, hourRatio,
+            monthRatio, keywordSum, keywordCount);
+    }
+
     /**
      * Get ratio based off Post day of week
      * 
@@ -482,4 +526,108 @@ public class Post {
                 return -1.0;
         }
     }
+
+
+    /**
+     * Known keyword IDs, with the dictionary size they were looked up at
+     */
+    private static class KnownKeywords {
+
+        private final int[] ids;
+        private final int dictionarySize;
+
+
+        /**
+         * Construct KnownKeywords
+         * 
+         * @param i
+         *            Known keyword IDs
+         * @param size
+         *            Dictionary size when looked up
+         */
+        private KnownKeywords(int[] i, int size) {
+            ids = i;
+            dictionarySize = size;
+        }
+    }
+
+
+    /**
+     * Per-thread tokenizer that interns (or only looks up) keywords in the
+     * shared KeywordDictionary through a reusable ID buffer
+     */
+    private static class KeywordCollector
+        implements KeywordTokenizer.KeywordSink {
+
+        private KeywordTokenizer tokenizer = new KeywordTokenizer();
+        private KeywordDictionary dictionary = KeywordDictionary.getShared();
+
+        private int[] ids = new int[16];
+        private int count;
+        private boolean interning;
+
+
+        /**
+         * Collect keyword IDs of a Description
+         * 
+         * @param desc
+         *            Description to tokenize
+         * @return Array of keyword IDs
+         */
+        private int[] collect(CharSequence desc) {
+            return find(desc, true);
+        }
+
+
+        /**
+         * Find IDs of the keywords of a Description already in the
+         * dictionary
+         * 
+         * @param desc
+         *            Description to tokenize
+         * @return Array of known keyword IDs
+         */
+        private int[] lookup(CharSequence desc) {
+            return find(desc, false);
+        }
+
+
+        /**
+         * Find keyword IDs of a Description
+         * 
+         * @param desc
+         *            Description to tokenize
+         * @param intern
+         *            If unknown keywords are added, rather than skipped
+         * @return Array of keyword IDs
+         */
+        private int[] find(CharSequence desc, boolean intern) {
+
+            count = 0;
+            interning = intern;
+
+            tokenizer.tokenize(desc, this);
+
+            if (count == 0)
+                return NO_KEYWORDS;
+
+            return Arrays.copyOf(ids, count);
+        }
+
+
+        @Override
+        public void keyword(char[] chars, int length) {
+
+            int id = interning ? dictionary.intern(chars, length)
+                : dictionary.lookup(chars, length);
+
+            if (id == KeywordDictionary.NOT_FOUND)
+                return;
+
+            if (count == ids.length)
+                ids = Arrays.copyOf(ids, count * 2);
+
+            ids[count++] = id;
+        }
+    }
 }
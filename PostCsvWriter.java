@@ -0,0 +1,347 @@
+package business;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Buffered writer for Post CSV files
+ * (Numbers and dates are formatted straight into a reusable char buffer,
+ * so writing a row makes no Strings)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class PostCsvWriter implements Closeable, Flushable {
+
+    /* PostCsvWriter Values */
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Longest int is "-2147483648"
+    private static final int MAX_INT_LENGTH = 11;
+
+    // Two ints, a date with an int year, and their separators
+    private static final int ROW_PREFIX_LENGTH = 3 * MAX_INT_LENGTH + 18;
+
+    private static final String HEADER =
+        "Engagements,Followers at Posting,Created,Type,Description\n";
+
+    private static final char COMMA = ',';
+    private static final char QUOTE = '"';
+    private static final char CR = '\r';
+    private static final char LF = '\n';
+
+
+    /* PostCsvWriter Variables */
+
+    private Writer out;
+
+    private char[] buffer;
+    private int length;
+
+
+    /* PostCsvWriter Constructors */
+
+    /**
+     * Construct a PostCsvWriter creating (or replacing) a file in
+     * PostReader's charset
+     * 
+     * @param file
+     *            File to write
+     * @throws IOException
+     *             If file cannot be opened
+     */
+    public PostCsvWriter(Path file) throws IOException {
+        this(new OutputStreamWriter(Files.newOutputStream(file),
+            PostReader.CHARSET));
+    }
+
+
+    /**
+     * Construct a PostCsvWriter onto a Writer, which is closed with it
+     * 
+     * @param w
+     *            Writer to write to
+     */
+    public PostCsvWriter(Writer w) {
+        out = w;
+        buffer = new char[BUFFER_SIZE];
+        length = 0;
+    }
+
+
+    /* PostCsvWriter Methods */
+
+    /**
+     * Write the header row
+     * 
+     * @throws IOException
+     *             If writing fails
+     */
+    public void writeHeader() throws IOException {
+        append(HEADER);
+    }
+
+
+    /**
+     * Write a Post row with its own Engagements
+     * 
+     * @param post
+     *            Post to write
+     * @throws IOException
+     *             If writing fails
+     */
+    public void writePost(Post post) throws IOException {
+        writePost(post, post.getEngagements());
+    }
+
+
+    /**
+     * Write a Post row
+     * 
+     * @param post
+     *            Post to write
+     * @param engages
+     *            Engagements to write for Post
+     * @throws IOException
+     *             If writing fails
+     */
+    public void writePost(Post post, int engages) throws IOException {
+
+        ensureRoom(ROW_PREFIX_LENGTH);
+
+        appendInt(engages);
+        buffer[length++] = COMMA;
+        appendInt(post.getFollowers());
+        buffer[length++] = COMMA;
+        appendDate(post.getDateTime());
+        buffer[length++] = ' ';
+
+        append(post.getTimeZone());
+        append(COMMA);
+        append(post.getPostType().toString());
+        append(COMMA);
+
+        appendDescription(post.getDescriptionText());
+        append(LF);
+    }
+
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        }
+        finally {
+            out.close();
+        }
+    }
+
+
+    /**
+     * Append an int in decimal
+     * (Caller makes room for MAX_INT_LENGTH chars)
+     * 
+     * @param value
+     *            Value to append
+     */
+    private void appendInt(int value) {
+
+        if (value == Integer.MIN_VALUE) {
+            "-2147483648".getChars(0, MAX_INT_LENGTH, buffer, length);
+            length += MAX_INT_LENGTH;
+            return;
+        }
+
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+
+        int pos = length + digits;
+
+        do {
+            buffer[--pos] = (char)('0' + value % 10);
+            value /= 10;
+        }
+        while (value > 0);
+
+        length += digits;
+    }
+
+
+    /**
+     * Append a zero-padded two digit number
+     * 
+     * @param value
+     *            Value from 0 to 99
+     */
+    private void appendTwoDigits(int value) {
+        buffer[length++] = (char)('0' + value / 10);
+        buffer[length++] = (char)('0' + value % 10);
+    }
+
+
+    /**
+     * Append date as "yyyy-MM-dd HH:mm:ss"
+     * 
+     * @param dateTime
+     *            LocalDateTime for Post
+     */
+    private void appendDate(LocalDateTime dateTime) {
+
+        appendInt(dateTime.getYear());
+        buffer[length++] = '-';
+        appendTwoDigits(dateTime.getMonthValue());
+        buffer[length++] = '-';
+        appendTwoDigits(dateTime.getDayOfMonth());
+        buffer[length++] = ' ';
+        appendTwoDigits(dateTime.getHour());
+        buffer[length++] = ':';
+        appendTwoDigits(dateTime.getMinute());
+        buffer[length++] = ':';
+        appendTwoDigits(dateTime.getSecond());
+    }
+
+
+    /**
+     * Append a Description, quoted (with "" for quotes) if it holds a
+     * comma, quote, or line break
+     * 
+     * @param desc
+     *            Description to append
+     * @throws IOException
+     *             If writing fails
+     */
+    private void appendDescription(CharSequence desc) throws IOException {
+
+        int n = desc.length();
+        boolean quote = false;
+
+        for (int i = 0; i < n && !quote; i++) {
+            char c = desc.charAt(i);
+            quote = c == COMMA || c == QUOTE || c == CR || c == LF;
+        }
+
+        if (!quote) {
+            append(desc);
+            return;
+        }
+
+        append(QUOTE);
+
+        for (int i = 0; i < n; i++) {
+
+            if (length + 2 > buffer.length)
+                drain();
+
+            char c = desc.charAt(i);
+
+            if (c == QUOTE)
+                buffer[length++] = QUOTE;
+
+            buffer[length++] = c;
+        }
+
+        append(QUOTE);
+    }
+
+
+    /**
+     * Append a char
+     * 
+     * @param c
+     *            Char to append
+     * @throws IOException
+     *             If writing fails
+     */
+    private void append(char c) throws IOException {
+
+        if (length == buffer.length)
+            drain();
+
+        buffer[length++] = c;
+    }
+
+
+    /**
+     * Append text as is
+     * 
+     * @param text
+     *            Text to append
+     * @throws IOException
+     *             If writing fails
+     */
+    private void append(CharSequence text) throws IOException {
+
+        int n = text.length();
+        int i = 0;
+
+        while (i < n) {
+
+            if (length == buffer.length)
+                drain();
+
+            int count = Math.min(n - i, buffer.length - length);
+
+            if (text instanceof String) {
+                ((String)text).getChars(i, i + count, buffer, length);
+                length += count;
+                i += count;
+            }
+            else {
+                for (int end = i + count; i < end; i++) {
+                    buffer[length++] = text.charAt(i);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Make sure buffer has room for a number of chars
+     * 
+     * @param needed
+     *            Number of chars about to be appended
+     * @throws IOException
+     *             If writing fails
+     */
+    private void ensureRoom(int needed) throws IOException {
+        if (length + needed > buffer.length)
+            drain();
+    }
+
+
+    /**
+     * Write buffered chars out
+     * 
+     * @throws IOException
+     *             If writing fails
+     */
+    private void drain() throws IOException {
+        if (length > 0) {
+            out.write(buffer, 0, length);
+            length = 0;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package business;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+/**
+ * Seeded generator of synthetic Posts for scale testing, drawing from
+ * distributions fitted to a sample of real Posts
+ * (Days and Followers come from sample Posts, hours, Post Types, and
+ * Engagement/Follower ratios by Post Type from their sample frequencies,
+ * and Descriptions from sampled word and keyword counts, words, and
+ * keywords; equal seeds and samples give equal output, however many
+ * threads write it)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class PostGenerator {
+
+    /* PostGenerator Values */
+
+    private static final String TRAINING_FILE = "training_set.csv";
+    private static final String DEFAULT_OUTPUT = "generated_set.csv";
+    private static final long DEFAULT_ROWS = 1000000;
+    private static final long DEFAULT_SEED = 7;
+
+    private static final ZoneRules EASTERN = ZoneId.of("America/New_York")
+        .getRules();
+
+    private static final ZoneOffset EDT_OFFSET = ZoneOffset.ofHours(-4);
+
+    private static final String EDT = "EDT";
+    private static final String EST = "EST";
+
+    private static final int MINUTES = 60;
+    private static final int SECONDS = 60;
+
+    // Rows per independently seeded block, and a guess at bytes per row
+    private static final int BLOCK_SIZE = 8192;
+    private static final int ROW_BYTES = 128;
+
+    // Blocks formatted ahead of the file per thread
+    private static final int BLOCKS_PER_THREAD = 2;
+
+
+    /* PostGenerator Variables */
+
+    private SplittableRandom random;
+
+    // Sample Posts, one entry per Post
+    private LocalDate[] days;
+    private int[] followers;
+    private int[] hours;
+    private PostType[] types;
+    private int[] wordCounts;
+    private int[] keywordCounts;
+
+    // Engagement/Follower ratios by Post Type index
+    private double[][] ratios;
+
+    // One entry per occurrence, so frequent tokens are drawn more often
+    private String[] words;
+    private String[] keywords;
+
+    private StringBuilder description;
+
+
+    /* PostGenerator Constructor */
+
+    /**
+     * Fit a PostGenerator to sample Posts
+     * 
+     * @param sample
+     *            Posts with known Engagements
+     * @param seed
+     *            Random seed
+     */
+    public PostGenerator(List<Post> sample, long seed) {
+
+        if (sample.isEmpty())
+            throw new IllegalArgumentException("No Posts to fit to");
+
+        random = new SplittableRandom(seed);
+        description = new StringBuilder();
+
+        int n = sample.size();
+
+        days = new LocalDate[n];
+        followers = new int[n];
+        hours = new int[n];
+        types = new PostType[n];
+        wordCounts = new int[n];
+        keywordCounts = new int[n];
+
+        List<String> wordList = new ArrayList<String>();
+        List<String> keywordList = new ArrayList<String>();
+
+        List<List<Double>> typeRatios = new ArrayList<List<Double>>();
+
+        for (int t = 0; t < ModelStatistics.NUM_TYPES; t++) {
+            typeRatios.add(new ArrayList<Double>());
+        }
+
+        for (int i = 0; i < n; i++) {
+
+            Post post = sample.get(i);
+
+            days[i] = post.getDateTime().toLocalDate();
+            followers[i] = post.getFollowers();
+            hours[i] = post.getDateTime().getHour();
+            types[i] = post.getPostType();
+
+            int type = ModelStatistics.typeIndex(post.getPostType());
+
+            if (type >= 0 && post.getFollowers() > 0
+                && post.getEngagements() >= 0)
+                typeRatios.get(type).add((double)post.getEngagements() / post
+                    .getFollowers());
+
+            for (String token : post.getDescription().trim().split("\\s+")) {
+
+                if (token.isEmpty())
+                    continue;
+
+                if (token.charAt(0) == '@' || token.charAt(0) == '#') {
+                    keywordList.add(token);
+                    keywordCounts[i]++;
+                }
+                else {
+                    wordList.add(token);
+                    wordCounts[i]++;
+                }
+            }
+        }
+
+        ratios = new double[ModelStatistics.NUM_TYPES][];
+
+        for (int t = 0; t < ratios.length; t++) {
+
+            List<Double> found = typeRatios.get(t);
+
+            ratios[t] = new double[found.size()];
+
+            for (int i = 0; i < ratios[t].length; i++) {
+                ratios[t][i] = found.get(i);
+            }
+        }
+
+        words = wordList.toArray(new String[0]);
+        keywords = keywordList.toArray(new String[0]);
+    }
+
+
+    /* PostGenerator Methods */
+
+    /**
+     * Main method, writes generated Posts fitted to "training_set.csv"
+     * 
+     * @param args
+     *            Optional number of rows, seed, output file, and threads
+     * @throws IOException
+     *             If output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+
+        long rows = args.length > 0 ? Long.parseLong(args[0])
+            : DEFAULT_ROWS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        Path out = Paths.get(args.length > 2 ? args[2] : DEFAULT_OUTPUT);
+        int threads = args.length > 3 ? Integer.parseInt(args[3])
+            : Runtime.getRuntime().availableProcessors();
+
+        PostGenerator generator = new PostGenerator(new PostReader()
+            .readPostFile(), seed);
+
+        long start = System.nanoTime();
+
+        generator.write(out, rows, threads);
+
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Wrote " + rows + " Posts to " + out + " in "
+            + (elapsed / 1000000) + " ms");
+    }
+
+
+    /**
+     * Write a header and generated Posts
+     * 
+     * @param writer
+     *            Output writer
+     * @param rows
+     *            Number of Posts to write
+     * @throws IOException
+     *             If writing fails
+     */
+    public void write(PostCsvWriter writer, long rows) throws IOException {
+
+        writer.writeHeader();
+
+        for (long written = 0; written < rows; written += BLOCK_SIZE) {
+
+            SplittableRandom blockRandom = random.split();
+            long count = Math.min(BLOCK_SIZE, rows - written);
+
+            for (long i = 0; i < count; i++) {
+                writer.writePost(nextPost(blockRandom, description));
+            }
+        }
+    }
+
+
+    /**
+     * Write a header and generated Posts to a file, formatting blocks of
+     * Posts on several threads while the calling thread writes them in
+     * order
+     * 
+     * @param out
+     *            File to create (or replace)
+     * @param rows
+     *            Number of Posts to write
+     * @param threads
+     *            Number of formatting threads
+     * @throws IOException
+     *             If writing fails or the thread is interrupted
+     */
+    public void write(Path out, long rows, int threads) throws IOException {
+
+        int workerCount = Math.max(threads, 1);
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+        ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+
+        try (OutputStream file = Files.newOutputStream(out)) {
+
+            file.write(formatBlock(null, 0, true));
+
+            long queued = 0;
+
+            while (queued < rows || !pending.isEmpty()) {
+
+                // Blocks are split off in order, so output never depends on
+                // which thread formats them
+                while (queued < rows && pending.size() < workerCount
+                    * BLOCKS_PER_THREAD) {
+
+                    SplittableRandom blockRandom = random.split();
+                    int count = (int)Math.min(BLOCK_SIZE, rows - queued);
+
+                    pending.add(workers.submit(() -> formatBlock(blockRandom,
+                        count, false)));
+
+                    queued += count;
+                }
+
+                file.write(pending.remove().get());
+            }
+        }
+        catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        finally {
+            workers.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Generate the next Post (draws from the same random stream write()
+     * splits blocks off of, so mixing the two changes later output)
+     * 
+     * @return Generated Post
+     */
+    public Post nextPost() {
+        return nextPost(random, description);
+    }
+
+
+    /**
+     * Format a block of generated Posts as encoded CSV rows
+     * 
+     * @param blockRandom
+     *            Random stream of block
+     * @param count
+     *            Number of Posts
+     * @param header
+     *            If the header row comes first
+     * @return Encoded rows
+     * @throws IOException
+     *             If formatting fails
+     */
+    private byte[] formatBlock(
+        SplittableRandom blockRandom,
+        int count,
+        boolean header) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(
+            count, 1) * ROW_BYTES);
+        StringBuilder text = new StringBuilder();
+
+        try (PostCsvWriter writer = new PostCsvWriter(new OutputStreamWriter(
+            bytes, PostReader.CHARSET))) {
+
+            if (header)
+                writer.writeHeader();
+
+            for (int i = 0; i < count; i++) {
+                writer.writePost(nextPost(blockRandom, text));
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+
+    /**
+     * Generate a Post from a random stream
+     * 
+     * @param random
+     *            Random stream to draw from
+     * @param description
+     *            Buffer to build Description in
+     * @return Generated Post
+     */
+    private Post nextPost(SplittableRandom random, StringBuilder description) {
+
+        int template = random.nextInt(days.length);
+
+        LocalDateTime dateTime = days[template].atTime(hours[random.nextInt(
+            hours.length)], random.nextInt(MINUTES), random.nextInt(SECONDS));
+
+        String zone = EASTERN.getOffset(dateTime).equals(EDT_OFFSET) ? EDT
+            : EST;
+
+        PostType type = types[random.nextInt(types.length)];
+        int follows = followers[template];
+
+        return new Post(makeEngagements(random, type, follows), follows,
+            dateTime, zone, type, makeDescription(random, description));
+    }
+
+
+    /**
+     * Draw Engagements from Post Type's Engagement/Follower ratios
+     * 
+     * @param random
+     *            Random stream to draw from
+     * @param type
+     *            Post Type
+     * @param follows
+     *            Followers at Posting
+     * @return Engagements
+     */
+    private int makeEngagements(
+        SplittableRandom random,
+        PostType type,
+        int follows) {
+
+        int index = ModelStatistics.typeIndex(type);
+
+        if (index < 0 || ratios[index].length == 0)
+            return 0;
+
+        double ratio = ratios[index][random.nextInt(ratios[index].length)];
+
+        return (int)Math.min(Integer.MAX_VALUE, Math.round(ratio * follows));
+    }
+
+
+    /**
+     * Draw a Description with the word and keyword counts of a sample
+     * Post, keywords placed among the words at random
+     * 
+     * @param random
+     *            Random stream to draw from
+     * @param description
+     *            Buffer to build Description in
+     * @return Description
+     */
+    private String makeDescription(
+        SplittableRandom random,
+        StringBuilder description) {
+
+        int template = random.nextInt(wordCounts.length);
+
+        int wordsLeft = words.length == 0 ? 0 : wordCounts[template];
+        int keywordsLeft = keywords.length == 0 ? 0
+            : keywordCounts[template];
+
+        description.setLength(0);
+
+        while (wordsLeft + keywordsLeft > 0) {
+
+            if (description.length() > 0)
+                description.append(' ');
+
+            if (random.nextInt(wordsLeft + keywordsLeft) < keywordsLeft) {
+                description.append(keywords[random.nextInt(keywords.length)]);
+                keywordsLeft--;
+            }
+            else {
+                description.append(words[random.nextInt(words.length)]);
+                wordsLeft--;
+            }
+        }
+
+        return description.toString();
+    }
+}
@@ -1,10 +1,19 @@
 package business;
 
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.List;
 import java.time.LocalDateTime;
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Reader to turn "training_set.csv" and "holdout_set.csv" to
@@ -16,17 +25,54 @@ import java.io.FileNotFoundException;
  */
 public class PostReader {
 
+    /**
+     * Ingestion modes for Post files
+     */
+    public enum ReadMode {
+        STREAMING, MAPPED, PARALLEL
+    }
+
     /* PostReader Values */
 
-    private static final String COMMA = ",";
+    public static final Charset CHARSET = Charset.forName("windows-1252");
+
+    private static final String TRAINING_FILE = "training_set.csv";
+    static final String HOLDOUT_FILE = "holdout_set.csv";
+    private static final String HEADER_FIELD = "Followers at Posting";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final String EDT = "EDT";
+    private static final String EST = "EST";
+
+    private static final int ENGAGES = 0, FOLLOWS = 1, CREATED = 2, TYPE = 3,
+        DESC = 4;
+
 
+    /* PostReader Variables */
 
-    /* PostReader Constructor */
+    private ReadMode readMode;
+
+
+    /* PostReader Constructors */
 
     /**
-     * Empty Constructor for PostReader, all needed fields are known
+     * Constructor for a streaming PostReader, all needed fields are known
      */
     public PostReader() {
+        this(ReadMode.STREAMING);
+    }
+
+
+    /**
+     * Constructor for a PostReader using a given ingestion mode
+     * 
+     * @param mode
+     *            STREAMING to decode files through CsvParser, MAPPED to
+     *            parse memory-mapped bytes with MappedPostReader, PARALLEL
+     *            to parse mapped byte ranges with ParallelPostReader
+     */
+    public PostReader(ReadMode mode) {
+        readMode = mode;
     }
 
 
@@ -38,66 +84,105 @@ public class PostReader {
      * @return List of Posts from training file
      */
     public ArrayList<Post> readPostFile() {
+        return readPosts(TRAINING_FILE, true);
+    }
 
-        ArrayList<Post> posts = new ArrayList<Post>();
 
-        Scanner postScan = null;
+    /**
+     * Read "holdout_set.csv" into list of Instagram Posts
+     * 
+     * @return List of Posts from holdout file
+     */
+    public ArrayList<Post> readHoldoutFile() {
+        return readPosts(HOLDOUT_FILE, false);
+    }
 
-        try {
-            postScan = new Scanner(new File("training_set.csv"));
 
-            String line = null;
-            Scanner lineScan = null;
+    /**
+     * Read "training_set.csv" into list of Instagram Posts, loading its
+     * PostSnapshot instead when one newer than the file exists (and
+     * writing one when it does not)
+     * 
+     * @return List of Posts from training file
+     */
+    public ArrayList<Post> readCachedPostFile() {
+        return readCachedPosts(TRAINING_FILE, true);
+    }
 
-            int engages = -1, follows = -1;
 
-            String date = null, zone = null, type = null, desc = null;
+    /**
+     * Read "holdout_set.csv" into list of Instagram Posts, loading its
+     * PostSnapshot instead when one newer than the file exists (and
+     * writing one when it does not)
+     * 
+     * @return List of Posts from holdout file
+     */
+    public ArrayList<Post> readCachedHoldoutFile() {
+        return readCachedPosts(HOLDOUT_FILE, false);
+    }
 
-            while (postScan.hasNextLine()) {
 
-                line = postScan.nextLine();
+    /**
+     * Open a Post file to be read a Post at a time, so only the Posts the
+     * caller keeps are held in memory
+     * 
+     * @param file
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return PostSource positioned before the first Post
+     * @throws IOException
+     *             If file cannot be opened
+     */
+    public PostSource openPosts(Path file, boolean hasEngagements)
+        throws IOException {
 
-                lineScan = new Scanner(line);
-                lineScan.useDelimiter(COMMA);
+        return new PostSource(new CsvParser(openFile(file.toString())),
+            hasEngagements);
+    }
+
+
+    /**
+     * Read Posts from any character stream, a Post at a time
+     * 
+     * @param reader
+     *            Post CSV text (a header row is skipped)
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return PostSource positioned before the first Post
+     */
+    public PostSource openPosts(Reader reader, boolean hasEngagements) {
+        return new PostSource(new CsvParser(reader), hasEngagements);
+    }
 
-                if (line.contains("Followers at Posting"))
-                    continue;
 
-                if (lineScan.hasNextInt()) {
-                    engages = lineScan.nextInt();
-                }
-                else {
-                    Post fixPost = posts.remove(posts.size() - 1);
-                    String fixDesc = fixPost.getDescription() + line;
-                    fixPost.setDescription(fixDesc);
-                    posts.add(fixPost);
-                    continue;
-                }
+    /**
+     * Read a Post file in one streaming pass
+     * 
+     * @param fileName
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return List of Posts from file
+     */
+    private ArrayList<Post> readPosts(String fileName, boolean hasEngagements) {
 
-                if (lineScan.hasNextInt())
-                    follows = lineScan.nextInt();
-                if (lineScan.hasNext())
-                    date = lineScan.next();
-                if (lineScan.hasNext())
-                    type = lineScan.next();
-                if (lineScan.hasNext())
-                    desc = lineScan.next();
+        if (readMode != ReadMode.STREAMING)
+            return readMappedPosts(Paths.get(fileName), hasEngagements);
 
-                while (desc.charAt(0) == '"' && lineScan.hasNext()) {
-                    desc += lineScan.next();
-                }
+        ArrayList<Post> posts = new ArrayList<Post>();
 
-                LocalDateTime ldt = makeDateTime(date);
+        try (CsvParser parser = new CsvParser(openFile(fileName))) {
 
-                zone = date.substring(20, 23);
+            while (parser.nextRecord()) {
 
-                PostType postType = getPostType(type);
+                Post post = makePost(parser, hasEngagements);
 
-                posts.add(new Post(engages, follows, ldt, zone, postType,
-                    desc));
+                if (post != null)
+                    posts.add(post);
             }
         }
-        catch (FileNotFoundException e) {
+        catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -106,71 +191,124 @@ public class PostReader {
 
 
     /**
-     * Read "holdout_set.csv" into list of Instagram Posts
+     * Read a Post file through its PostSnapshot when it is up to date,
+     * otherwise parse the file and write a new PostSnapshot
      * 
-     * @return List of Posts from holdout file
+     * @param fileName
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return List of Posts from file
      */
-    public ArrayList<Post> readHoldoutFile() {
-        ArrayList<Post> posts = new ArrayList<Post>();
+    private ArrayList<Post> readCachedPosts(
+        String fileName,
+        boolean hasEngagements) {
+
+        Path file = Paths.get(fileName);
+        Path snapshot = Paths.get(fileName + SNAPSHOT_SUFFIX);
+
+        try {
+            if (Files.exists(snapshot) && Files.getLastModifiedTime(snapshot)
+                .compareTo(Files.getLastModifiedTime(file)) > 0)
+                return PostSnapshot.read(snapshot, hasEngagements);
+        }
+        catch (IOException e) {
+            // Damaged or old snapshot, parse the file again
+            System.err.println("Skipping snapshot: " + e.getMessage());
+        }
+
+        ArrayList<Post> posts = readPosts(fileName, hasEngagements);
+
+        try {
+            PostSnapshot.write(posts, snapshot);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return posts;
+    }
+
 
-        Scanner postScan = null;
+    /**
+     * Read a Post file through a memory mapping, in parallel if asked
+     * 
+     * @param file
+     *            CSV file to read
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return List of Posts from file
+     */
+    private ArrayList<Post> readMappedPosts(Path file, boolean hasEngagements) {
 
         try {
-            postScan = new Scanner(new File("holdout_set.csv"));
+            if (readMode == ReadMode.PARALLEL)
+                return new ParallelPostReader().readPosts(file, hasEngagements);
 
-            String line = null;
+            return new MappedPostReader().readPosts(file, hasEngagements);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
 
-            Scanner lineScan = null;
+        return new ArrayList<Post>();
+    }
 
-            int follows = -1;
 
-            String date = null, zone = null, type = null, desc = null;
+    /**
+     * Open a buffered character stream over a file channel
+     * 
+     * @param fileName
+     *            File to open
+     * @return Reader for file
+     * @throws IOException
+     *             If file cannot be opened
+     */
+    private Reader openFile(String fileName) throws IOException {
 
-            while (postScan.hasNextLine()) {
+        FileChannel channel = FileChannel.open(Paths.get(fileName),
+            StandardOpenOption.READ);
 
-                line = postScan.nextLine();
+        return Channels.newReader(channel, CHARSET.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+    }
 
-                lineScan = new Scanner(line);
-                lineScan.useDelimiter(COMMA);
 
-                if (line.contains("Followers at Posting"))
-                    continue;
+    /**
+     * Make a Post from the current CSV record
+     * 
+     * @param parser
+     *            Parser positioned on a record
+     * @param hasEngagements
+     *            If the Engagements column holds known values
+     * @return Post for record, or null for header/incomplete records
+     */
+    private Post makePost(CsvParser parser, boolean hasEngagements) {
 
-                if (lineScan.hasNextInt()) {
-                    follows = lineScan.nextInt();
-                }
-                else {
-                    Post fixPost = posts.remove(posts.size() - 1);
-                    String fixDesc = fixPost.getDescription() + line;
-                    fixPost.setDescription(fixDesc);
-                    posts.add(fixPost);
-                    continue;
-                }
+        if (parser.getFieldCount() <= TYPE
+            || parser.fieldEquals(FOLLOWS, HEADER_FIELD))
+            return null;
 
-                if (lineScan.hasNext())
-                    date = lineScan.next();
-                if (lineScan.hasNext())
-                    type = lineScan.next();
-                if (lineScan.hasNext())
-                    desc = lineScan.next();
+        int engages = -1;
 
-                while (desc.charAt(0) == '"' && lineScan.hasNext()) {
-                    desc += lineScan.next();
-                }
+        if (hasEngagements)
+            engages = parser.getInt(ENGAGES, -1);
 
-                LocalDateTime ldt = makeDateTime(date);
+        int follows = parser.getInt(FOLLOWS, -1);
 
-                zone = date.substring(20, 23);
+        LocalDateTime ldt = makeDateTime(parser, CREATED);
 
-                PostType postType = getPostType(type);
+        String zone = makeTimeZone(parser, CREATED);
 
-                posts.add(new Post(-1, follows, ldt, zone, postType, desc));
-            }
-        }
-        catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-        return posts;
+        PostType postType = getPostType(parser.getField(TYPE));
+
+        String desc = "";
+
+        if (parser.getFieldCount() > DESC)
+            desc = parser.getFieldsFrom(DESC);
+
+        return new Post(engages, follows, ldt, zone, postType, desc);
     }
 
 
@@ -195,47 +333,133 @@ public class PostReader {
 
 
     /**
-     * Turn Local Date/Time String into array of Date/Time variables
+     * Make a LocalDateTime variable from a "yyyy-MM-dd HH:mm:ss zzz" field
      * 
-     * @param dt
-     *            Date/Time String value
-     * @return Array of Date/Time values
+     * @param parser
+     *            Parser positioned on a record
+     * @param field
+     *            Date/Time field index
+     * @return LocalDateTime value
      */
-    private int[] tokenizeDateTimeData(String dt) {
+    private LocalDateTime makeDateTime(CsvParser parser, int field) {
 
-        int[] dateTimeTokens = new int[6];
+        int year = parser.getInt(field, 0, 4);
+        int month = parser.getInt(field, 5, 7);
+        int day = parser.getInt(field, 8, 10);
 
-        dateTimeTokens[0] = Integer.parseInt(dt.substring(0, 4));
-        dateTimeTokens[1] = Integer.parseInt(dt.substring(5, 7));
-        dateTimeTokens[2] = Integer.parseInt(dt.substring(8, 10));
-        dateTimeTokens[3] = Integer.parseInt(dt.substring(11, 13));
-        dateTimeTokens[4] = Integer.parseInt(dt.substring(14, 16));
-        dateTimeTokens[5] = Integer.parseInt(dt.substring(17, 19));
+        int hour = parser.getInt(field, 11, 13);
+        int minute = parser.getInt(field, 14, 16);
+        int second = parser.getInt(field, 17, 19);
 
-        return dateTimeTokens;
+        return LocalDateTime.of(year, month, day, hour, minute, second);
     }
 
 
     /**
-     * Make a LocalDateTime variable based off String value of Date/Time
+     * Get Time Zone from a "yyyy-MM-dd HH:mm:ss zzz" field, sharing the
+     * EDT/EST Strings between Posts
      * 
-     * @param dt
-     *            Date/Time String value
-     * @return LocalDateTime value
+     * @param parser
+     *            Parser positioned on a record
+     * @param field
+     *            Date/Time field index
+     * @return Time Zone
      */
-    private LocalDateTime makeDateTime(String dt) {
+    private String makeTimeZone(CsvParser parser, int field) {
 
-        int[] dateTimeTokens = tokenizeDateTimeData(dt);
+        if (parser.getFieldLength(field) < 23)
+            return "";
 
-        int year = dateTimeTokens[0];
-        int month = dateTimeTokens[1];
-        int day = dateTimeTokens[2];
+        if (parser.charAt(field, 20) == 'E'
+            && parser.charAt(field, 22) == 'T') {
 
-        int hour = dateTimeTokens[3];
-        int minute = dateTimeTokens[4];
-        int second = dateTimeTokens[5];
+            if (parser.charAt(field, 21) == 'D')
+                return EDT;
+            if (parser.charAt(field, 21) == 'S')
+                return EST;
+        }
 
-        return LocalDateTime.of(year, month, day, hour, minute, second);
+        return parser.getField(field, 20, 23);
     }
 
+
+    /**
+     * Posts of an open file, read in file order as they are asked for
+     */
+    public class PostSource implements Closeable {
+
+        private CsvParser parser;
+        private boolean hasEngagements;
+
+
+        /**
+         * Construct a PostSource over a parser
+         * 
+         * @param p
+         *            Parser over the file
+         * @param engagements
+         *            If the Engagements column holds known values
+         */
+        private PostSource(CsvParser p, boolean engagements) {
+            parser = p;
+            hasEngagements = engagements;
+        }
+
+
+        /**
+         * Read the next Post
+         * 
+         * @return Next Post, or null at end of file
+         * @throws IOException
+         *             If reading fails
+         */
+        public Post next() throws IOException {
+
+            while (parser.nextRecord()) {
+
+                Post post = makePost(parser, hasEngagements);
+
+                if (post != null)
+                    return post;
+            }
+
+            return null;
+        }
+
+
+        /**
+         * Read up to a number of Posts into a batch
+         * 
+         * @param batch
+         *            List to add Posts to
+         * @param max
+         *            Most Posts to add
+         * @return Number of Posts added, 0 at end of file
+         * @throws IOException
+         *             If reading fails
+         */
+        public int nextBatch(List<Post> batch, int max) throws IOException {
+
+            int added = 0;
+
+            while (added < max) {
+
+                Post post = next();
+
+                if (post == null)
+                    break;
+
+                batch.add(post);
+                added++;
+            }
+
+            return added;
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
 }
@@ -0,0 +1,565 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary columnar snapshot of parsed Posts, written once after parsing a
+ * CSV file and memory-mapped on later runs instead of parsing it again
+ * (This saves parsing and tokenizing, not memory: numbers are copied into
+ * Posts as they load, and only Descriptions stay in the mapping)
+ * 
+ * <p>
+ * Layout (big-endian): a header of magic, version, CRC32 of the whole
+ * file (taken with this field as 0), Post count, Time Zone
+ * count, keyword count, keyword ID count, and string heap length, then
+ * the columns Engagements (int), Followers (int), Created (long epoch
+ * seconds of the local date/time), Post Type (byte), Time Zone (byte
+ * index), keyword ID starts (int, count + 1), keyword IDs (int), and
+ * Description starts (int, count + 1), then Time Zone and keyword String
+ * starts (int, count + 1 each), then the string heap holding Descriptions,
+ * Time Zones, and keywords as single-byte PostReader.CHARSET text, one
+ * byte per char like the CSV it replaces.
+ * </p>
+ * 
+ * <p>
+ * Keyword IDs are local to the snapshot. Writing never adds to the shared
+ * KeywordDictionary; loading interns the keywords of training Posts and
+ * only looks up those of Posts that are scored, so loaded Posts are not
+ * tokenized again. Descriptions stay in the mapping as MappedText views.
+ * </p>
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public final class PostSnapshot {
+
+    /* PostSnapshot Values */
+
+    public static final int MAGIC = 0x50534E50; // "PSNP"
+    public static final int VERSION = 3;
+
+    private static final int HEADER_SIZE = 8 * Integer.BYTES;
+    private static final int CRC_OFFSET = 2 * Integer.BYTES;
+    private static final long CRC_WINDOW = 1L << 30;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final PostType[] POST_TYPES = PostType.values();
+
+
+    /* PostSnapshot Constructor */
+
+    /**
+     * PostSnapshot only has static methods
+     */
+    private PostSnapshot() {
+    }
+
+
+    /* PostSnapshot Methods */
+
+    /**
+     * Write Posts to a snapshot file
+     * 
+     * @param posts
+     *            Posts to write, in order
+     * @param file
+     *            Snapshot file to create (or replace)
+     * @throws IOException
+     *             If writing fails, the string heap is too large, or text
+     *             is not in PostReader.CHARSET (the checksum is written
+     *             last, so a snapshot cut short is never loaded)
+     */
+    public static void write(List<Post> posts, Path file) throws IOException {
+
+        int rows = posts.size();
+
+        // Keywords by snapshot ID
+        KeywordDictionary local = new KeywordDictionary();
+        KeywordTokenizer tokenizer = new KeywordTokenizer();
+        LocalIds localIds = new LocalIds(local);
+
+        List<String> zones = new ArrayList<String>();
+
+        byte[] zoneIndices = new byte[rows];
+        int[][] postIds = new int[rows][];
+        long idCount = 0;
+        long heapLength = 0;
+
+        for (int i = 0; i < rows; i++) {
+
+            Post post = posts.get(i);
+
+            zoneIndices[i] = (byte)zoneIndex(zones, post.getTimeZone());
+
+            postIds[i] = localIds.collect(tokenizer, post
+                .getDescriptionText());
+            idCount += postIds[i].length;
+            heapLength += post.getDescriptionText().length();
+        }
+
+        for (String zone : zones) {
+            heapLength += zone.length();
+        }
+
+        List<String> keywords = new ArrayList<String>(local.size());
+
+        for (int k = 0; k < local.size(); k++) {
+            keywords.add(local.getKeyword(k));
+            heapLength += keywords.get(k).length();
+        }
+
+        if (heapLength > Integer.MAX_VALUE || idCount > Integer.MAX_VALUE)
+            throw new IOException("Too many Posts for one snapshot");
+
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file),
+                BUFFER_SIZE))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(0);
+            out.writeInt(rows);
+            out.writeInt(zones.size());
+            out.writeInt(keywords.size());
+            out.writeInt((int)idCount);
+            out.writeInt((int)heapLength);
+
+            for (Post post : posts) {
+                out.writeInt(post.getEngagements());
+            }
+
+            for (Post post : posts) {
+                out.writeInt(post.getFollowers());
+            }
+
+            for (Post post : posts) {
+                out.writeLong(post.getDateTime().toEpochSecond(
+                    ZoneOffset.UTC));
+            }
+
+            for (Post post : posts) {
+                out.writeByte(post.getPostType().ordinal());
+            }
+
+            out.write(zoneIndices);
+
+            int start = 0;
+
+            for (int[] ids : postIds) {
+                out.writeInt(start);
+                start += ids.length;
+            }
+
+            out.writeInt(start);
+
+            for (int[] ids : postIds) {
+                for (int id : ids) {
+                    out.writeInt(id);
+                }
+            }
+
+            // Heap offsets: Descriptions, then Time Zones, then keywords
+            start = 0;
+
+            for (Post post : posts) {
+                out.writeInt(start);
+                start += post.getDescriptionText().length();
+            }
+
+            out.writeInt(start);
+
+            start = writeStarts(out, zones, start);
+            writeStarts(out, keywords, start);
+
+            for (Post post : posts) {
+                writeText(out, post.getDescriptionText());
+            }
+
+            for (String zone : zones) {
+                writeText(out, zone);
+            }
+
+            for (String keyword : keywords) {
+                writeText(out, keyword);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            ByteBuffer crc = ByteBuffer.allocate(Integer.BYTES);
+            crc.putInt(checksum(channel));
+            crc.flip();
+
+            while (crc.hasRemaining()) {
+                channel.write(crc, CRC_OFFSET + crc.position());
+            }
+        }
+    }
+
+
+    /**
+     * Load Posts from a snapshot file
+     * 
+     * @param file
+     *            Snapshot file
+     * @param hasEngagements
+     *            If Posts are for training, so their keywords are interned
+     *            (otherwise only known keywords are looked up)
+     * @return List of Posts, in the order written
+     * @throws IOException
+     *             If file cannot be mapped, is not a current snapshot, or
+     *             fails its checksum
+     */
+    public static ArrayList<Post> read(Path file, boolean hasEngagements)
+        throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.READ)) {
+
+            if (channel.size() < HEADER_SIZE)
+                throw new IOException(file + " is not a Post snapshot");
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                HEADER_SIZE);
+
+            if (header.getInt() != MAGIC)
+                throw new IOException(file + " is not a Post snapshot");
+
+            int version = header.getInt();
+
+            if (version != VERSION)
+                throw new IOException(file + " is snapshot version "
+                    + version + ", expected " + VERSION);
+
+            int expectedCrc = header.getInt();
+            int rows = header.getInt();
+            int zoneCount = header.getInt();
+            int keywordCount = header.getInt();
+            int idCount = header.getInt();
+            int heapLength = header.getInt();
+
+            long expected = HEADER_SIZE + 18L * rows + 8L * (rows + 1) + 4L
+                * idCount + 4L * (zoneCount + keywordCount + 2) + heapLength;
+
+            if (channel.size() != expected)
+                throw new IOException(file + " is " + channel.size()
+                    + " bytes, expected " + expected);
+
+            if (checksum(channel) != expectedCrc)
+                throw new IOException(file + " fails its checksum");
+
+            long position = HEADER_SIZE;
+
+            int[] engagements = new int[rows];
+            int[] followers = new int[rows];
+            long[] created = new long[rows];
+            byte[] types = new byte[rows];
+            byte[] zoneIndices = new byte[rows];
+            int[] idStarts = new int[rows + 1];
+            int[] ids = new int[idCount];
+            int[] descStarts = new int[rows + 1];
+            int[] zoneStarts = new int[zoneCount + 1];
+            int[] keywordStarts = new int[keywordCount + 1];
+
+            map(channel, position, 4L * rows).asIntBuffer().get(engagements);
+            position += 4L * rows;
+            map(channel, position, 4L * rows).asIntBuffer().get(followers);
+            position += 4L * rows;
+            map(channel, position, 8L * rows).asLongBuffer().get(created);
+            position += 8L * rows;
+            map(channel, position, rows).get(types);
+            position += rows;
+            map(channel, position, rows).get(zoneIndices);
+            position += rows;
+            map(channel, position, 4L * (rows + 1)).asIntBuffer().get(
+                idStarts);
+            position += 4L * (rows + 1);
+            map(channel, position, 4L * idCount).asIntBuffer().get(ids);
+            position += 4L * idCount;
+            map(channel, position, 4L * (rows + 1)).asIntBuffer().get(
+                descStarts);
+            position += 4L * (rows + 1);
+            map(channel, position, 4L * (zoneCount + 1)).asIntBuffer().get(
+                zoneStarts);
+            position += 4L * (zoneCount + 1);
+            map(channel, position, 4L * (keywordCount + 1)).asIntBuffer().get(
+                keywordStarts);
+            position += 4L * (keywordCount + 1);
+
+            ByteBuffer heap = map(channel, position, heapLength);
+
+            String[] zones = new String[zoneCount];
+
+            for (int z = 0; z < zoneCount; z++) {
+                zones[z] = heapString(heap, zoneStarts[z], zoneStarts[z + 1]);
+            }
+
+            // Snapshot ID to shared dictionary ID (or NOT_FOUND)
+            KeywordDictionary dictionary = KeywordDictionary.getShared();
+            int dictionarySize = dictionary.size();
+            int[] sharedIds = new int[keywordCount];
+
+            for (int k = 0; k < keywordCount; k++) {
+
+                String keyword = heapString(heap, keywordStarts[k],
+                    keywordStarts[k + 1]);
+
+                sharedIds[k] = hasEngagements ? dictionary.intern(keyword)
+                    : dictionary.lookup(keyword);
+            }
+
+            ArrayList<Post> posts = new ArrayList<Post>(rows);
+
+            for (int i = 0; i < rows; i++) {
+
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+                    created[i], 0, ZoneOffset.UTC);
+
+                Post post = new Post(engagements[i], followers[i], dateTime,
+                    zones[zoneIndices[i] & 0xFF], POST_TYPES[types[i]],
+                    new MappedText(heap, descStarts[i], descStarts[i + 1]
+                        - descStarts[i]));
+
+                int[] postIds = new int[idStarts[i + 1] - idStarts[i]];
+                int found = 0;
+
+                for (int k = 0; k < postIds.length; k++) {
+
+                    int id = sharedIds[ids[idStarts[i] + k]];
+
+                    if (id != KeywordDictionary.NOT_FOUND)
+                        postIds[found++] = id;
+                }
+
+                if (hasEngagements)
+                    post.setKeywordIds(postIds);
+                else
+                    post.setKnownKeywordIds(Arrays.copyOf(postIds, found),
+                        dictionarySize);
+
+                posts.add(post);
+            }
+
+            return posts;
+        }
+    }
+
+
+    /**
+     * Get index of a Time Zone, adding it if new
+     * 
+     * @param zones
+     *            Time Zones so far
+     * @param zone
+     *            Time Zone of a Post
+     * @return Index of zone
+     * @throws IOException
+     *             If there are more Time Zones than a byte can index
+     */
+    private static int zoneIndex(List<String> zones, String zone)
+        throws IOException {
+
+        int index = zones.indexOf(zone);
+
+        if (index >= 0)
+            return index;
+
+        if (zones.size() > 0xFF)
+            throw new IOException("Too many Time Zones for one snapshot");
+
+        zones.add(zone);
+
+        return zones.size() - 1;
+    }
+
+
+    /**
+     * Write heap start offsets of Strings, and the offset after the last
+     * 
+     * @param out
+     *            Snapshot output
+     * @param strings
+     *            Strings in heap order
+     * @param start
+     *            Heap offset of first String
+     * @return Heap offset after last String
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeStarts(
+        DataOutputStream out,
+        List<String> strings,
+        int start) throws IOException {
+
+        for (String string : strings) {
+            out.writeInt(start);
+            start += string.length();
+        }
+
+        out.writeInt(start);
+
+        return start;
+    }
+
+
+    /**
+     * Write text as single-byte PostReader.CHARSET chars
+     * 
+     * @param out
+     *            Snapshot output
+     * @param text
+     *            Text to write
+     * @throws IOException
+     *             If writing fails or a char is not in PostReader.CHARSET
+     */
+    private static void writeText(DataOutputStream out, CharSequence text)
+        throws IOException {
+
+        for (int i = 0; i < text.length(); i++) {
+
+            int b = MappedText.encode(text.charAt(i));
+
+            if (b < 0)
+                throw new IOException("Char " + (int)text.charAt(i)
+                    + " is not in " + PostReader.CHARSET);
+
+            out.write(b);
+        }
+    }
+
+
+    /**
+     * Copy a String out of the heap
+     * 
+     * @param heap
+     *            Mapped string heap
+     * @param start
+     *            First char (inclusive)
+     * @param end
+     *            Last char (exclusive)
+     * @return String of heap range
+     */
+    private static String heapString(ByteBuffer heap, int start, int end) {
+        return new MappedText(heap, start, end - start).toString();
+    }
+
+
+    /**
+     * Map a region of the snapshot
+     * 
+     * @param channel
+     *            Snapshot file
+     * @param position
+     *            Offset of region
+     * @param size
+     *            Bytes in region
+     * @return Read-only mapping of region
+     * @throws IOException
+     *             If region cannot be mapped
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size)
+        throws IOException {
+
+        if (size > Integer.MAX_VALUE)
+            throw new IOException("Snapshot column of " + size
+                + " bytes is too large to map");
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+
+    /**
+     * Take CRC32 of a whole snapshot, with its checksum field as 0
+     * 
+     * @param channel
+     *            Open snapshot file
+     * @return CRC32 value
+     * @throws IOException
+     *             If file cannot be mapped
+     */
+    private static int checksum(FileChannel channel) throws IOException {
+
+        long size = channel.size();
+
+        CRC32 crc = new CRC32();
+
+        crc.update(map(channel, 0, CRC_OFFSET));
+        crc.update(new byte[Integer.BYTES]);
+
+        for (long position = CRC_OFFSET + Integer.BYTES; position < size;
+            position += CRC_WINDOW) {
+            crc.update(map(channel, position, Math.min(CRC_WINDOW, size
+                - position)));
+        }
+
+        return (int)crc.getValue();
+    }
+
+
+    /**
+     * Collects snapshot keyword IDs of a Description, interning keywords
+     * into the snapshot's own KeywordDictionary
+     */
+    private static class LocalIds implements KeywordTokenizer.KeywordSink {
+
+        private KeywordDictionary local;
+
+        private int[] ids = new int[16];
+        private int count;
+
+
+        /**
+         * Construct LocalIds
+         * 
+         * @param dictionary
+         *            Snapshot KeywordDictionary
+         */
+        private LocalIds(KeywordDictionary dictionary) {
+            local = dictionary;
+        }
+
+
+        /**
+         * Collect snapshot keyword IDs of a Description
+         * 
+         * @param tokenizer
+         *            Tokenizer to use
+         * @param desc
+         *            Description to tokenize
+         * @return Array of snapshot keyword IDs
+         */
+        private int[] collect(KeywordTokenizer tokenizer, CharSequence desc) {
+
+            count = 0;
+
+            tokenizer.tokenize(desc, this);
+
+            return Arrays.copyOf(ids, count);
+        }
+
+
+        @Override
+        public void keyword(char[] chars, int length) {
+
+            if (count == ids.length)
+                ids = Arrays.copyOf(ids, count * 2);
+
+            ids[count++] = local.intern(chars, length);
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package business;
 
 import java.util.ArrayList;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.LocalDateTime;
+import java.nio.file.Paths;
 
 /**
  * Write Engagement estimations to "holdout_set_Kevin_M_Smith.csv"
@@ -14,12 +13,18 @@ import java.time.LocalDateTime;
  */
 public class PostWriter {
 
+    /* PostWriter Values */
+
+    static final String HOLDOUT_FILE = "holdout_set_Kevin_M_Smith.csv";
+
+
     /* PostWriter Variables */
 
     private ArrayList<Post> holdoutPosts;
+    private int[] estimates;
 
 
-    /* PostWriter Constructor */
+    /* PostWriter Constructors */
 
     /**
      * Construct PostWriter for Holdout set
@@ -29,146 +34,49 @@ public class PostWriter {
      */
     public PostWriter(ArrayList<Post> hp) {
 
-        holdoutPosts = hp;
+        this(hp, null);
     }
 
 
     /**
-     * Write Holdout Post data to "holdout_set_Kevin_M_Smith.csv"
+     * Construct PostWriter for Holdout set with a column of estimated
+     * Engagements, as made by BatchScorer
+     * 
+     * @param hp
+     *            Holdout Post list
+     * @param est
+     *            Estimated Engagements by Post index, or null to write
+     *            Post Engagements
      */
-    public void writeHoldoutFile() {
-
-        FileWriter holdoutWriter = null;
-
-        try {
-
-            holdoutWriter = new FileWriter("holdout_set_Kevin_M_Smith.csv");
-
-            writeHeader(holdoutWriter);
+    public PostWriter(ArrayList<Post> hp, int[] est) {
 
-            for (Post post : holdoutPosts) {
-                writePostInfo(holdoutWriter, post);
-            }
-
-            holdoutWriter.close();
-
-        }
-        catch (IOException e) {
-            e.printStackTrace();
-        }
+        holdoutPosts = hp;
+        estimates = est;
     }
 
 
     /**
-     * Write header onto output file
-     * 
-     * @param writer
-     *            Output FileWriter
+     * Write Holdout Post data to "holdout_set_Kevin_M_Smith.csv"
      */
-    private void writeHeader(FileWriter writer) {
-
-        try {
-            writer.append("Engagements");
-            writer.append(",");
-            writer.append("Followers at Posting");
-            writer.append(",");
-            writer.append("Created");
-            writer.append(",");
-            writer.append("Type");
-            writer.append(",");
-            writer.append("Description");
-            writer.append("\n");
-        }
-        catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
+    public void writeHoldoutFile() {
 
-    /**
-     * Write post data onto output file
-     * 
-     * @param writer
-     *            Output FileWriter
-     * @param post
-     *            Post to write data
-     */
-    private void writePostInfo(FileWriter writer, Post post) {
+        try (PostCsvWriter holdoutWriter = new PostCsvWriter(Paths.get(
+            HOLDOUT_FILE))) {
 
-        try {
-            writer.append(Integer.toString(post.getEngagements()));
-            writer.append(",");
-            writer.append(Integer.toString(post.getFollowers()));
-            writer.append(",");
+            holdoutWriter.writeHeader();
 
-            String date = makeDate(post.getDateTime(), post.getTimeZone());
+            for (int i = 0; i < holdoutPosts.size(); i++) {
 
-            writer.append(date);
-            writer.append(",");
+                Post post = holdoutPosts.get(i);
 
-            writer.append(post.getPostType().toString());
-            writer.append(",");
+                int engages = estimates == null ? post.getEngagements()
+                    : estimates[i];
 
-            if (post.getDescription().contains("\n")) {
-                writer.append('"' + post.getDescription() + '"' + "\n");
-            }
-            else {
-                writer.append(post.getDescription() + "\n");
+                holdoutWriter.writePost(post, engages);
             }
         }
         catch (IOException e) {
             e.printStackTrace();
         }
     }
-
-
-    /**
-     * Make a date String from LocalDateTime variable for file
-     * 
-     * @param dateTime
-     *            LocalDateTime for Post
-     * @param timeZone
-     *            EDT or EST
-     * @return Date String
-     */
-    private String makeDate(LocalDateTime dateTime, String timeZone) {
-
-        String dateStr = "";
-
-        dateStr += dateTime.getYear();
-        dateStr += '-';
-        if (dateTime.getMonthValue() < 10) {
-            dateStr += ('0' + Integer.toString(dateTime.getMonthValue()));
-        }
-        else
-            dateStr += Integer.toString(dateTime.getMonthValue());
-        dateStr += '-';
-        if (dateTime.getDayOfMonth() < 10) {
-            dateStr += ('0' + Integer.toString(dateTime.getDayOfMonth()));
-        }
-        else
-            dateStr += Integer.toString(dateTime.getDayOfMonth());
-        dateStr += ' ';
-        if (dateTime.getHour() < 10) {
-            dateStr += ('0' + Integer.toString(dateTime.getHour()));
-        }
-        else
-            dateStr += Integer.toString(dateTime.getHour());
-        dateStr += ':';
-        if (dateTime.getMinute() < 10) {
-            dateStr += ('0' + Integer.toString(dateTime.getMinute()));
-        }
-        else
-            dateStr += Integer.toString(dateTime.getMinute());
-        dateStr += ':';
-        if (dateTime.getSecond() < 10) {
-            dateStr += ('0' + Integer.toString(dateTime.getSecond()));
-        }
-        else
-            dateStr += (Integer.toString(dateTime.getSecond()));
-        dateStr += ' ' + timeZone;
-
-        return dateStr;
-    }
-
 }
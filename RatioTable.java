@@ -0,0 +1,193 @@
+package business;
+
+import java.util.Arrays;
+
+/**
+ * Primitive Engagement/Follower totals for a set of buckets
+ * (hours, days, months, Post Types, or keyword IDs)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class RatioTable {
+
+    /* RatioTable Variables */
+
+    private int[] counts;
+    private long[] engagements;
+    private long[] followers;
+
+
+    /* RatioTable Constructor */
+
+    /**
+     * Construct a RatioTable with every bucket empty
+     * 
+     * @param size
+     *            Number of buckets
+     */
+    public RatioTable(int size) {
+        counts = new int[size];
+        engagements = new long[size];
+        followers = new long[size];
+    }
+
+
+    /* RatioTable Methods */
+
+    /**
+     * Add a Post's Engagements and Followers to a bucket
+     * 
+     * @param bucket
+     *            Bucket index
+     * @param engages
+     *            Engagements to add
+     * @param follows
+     *            Followers to add
+     * @throws ArithmeticException
+     *             If a total overflows a long
+     */
+    public void add(int bucket, int engages, int follows) {
+        counts[bucket]++;
+
+        engagements[bucket] = Math.addExact(engagements[bucket], engages);
+        followers[bucket] = Math.addExact(followers[bucket], follows);
+    }
+
+
+    /**
+     * Add every bucket of another RatioTable into this one
+     * 
+     * @param other
+     *            RatioTable to merge in
+     * @throws ArithmeticException
+     *             If a total overflows
+     */
+    public void merge(RatioTable other) {
+
+        ensureCapacity(other.size());
+
+        for (int i = 0; i < other.size(); i++) {
+            counts[i] = Math.addExact(counts[i], other.counts[i]);
+
+            engagements[i] = Math.addExact(engagements[i],
+                other.engagements[i]);
+            followers[i] = Math.addExact(followers[i], other.followers[i]);
+        }
+    }
+
+
+    /**
+     * Grow RatioTable to hold at least a number of buckets
+     * 
+     * @param size
+     *            Number of buckets needed
+     */
+    public void ensureCapacity(int size) {
+
+        if (size <= counts.length)
+            return;
+
+        int capacity = Math.max(size, counts.length * 2);
+
+        counts = Arrays.copyOf(counts, capacity);
+        engagements = Arrays.copyOf(engagements, capacity);
+        followers = Arrays.copyOf(followers, capacity);
+    }
+
+
+    /**
+     * Get number of buckets
+     * 
+     * @return Number of buckets
+     */
+    public int size() {
+        return counts.length;
+    }
+
+
+    /**
+     * Get number of Posts added to a bucket
+     * 
+     * @param bucket
+     *            Bucket index
+     * @return Post count
+     */
+    public int getCount(int bucket) {
+        return counts[bucket];
+    }
+
+
+    /**
+     * Get total Engagements of a bucket
+     * 
+     * @param bucket
+     *            Bucket index
+     * @return Total Engagements
+     */
+    public long getEngagements(int bucket) {
+        return engagements[bucket];
+    }
+
+
+    /**
+     * Get total Followers of a bucket
+     * 
+     * @param bucket
+     *            Bucket index
+     * @return Total Followers
+     */
+    public long getFollowers(int bucket) {
+        return followers[bucket];
+    }
+
+
+    /**
+     * Get average Engagement/average Follower ratio of a bucket
+     * 
+     * @param bucket
+     *            Bucket index
+     * @return Engagement/Follower ratio, NaN for an empty bucket
+     */
+    public double getRatio(int bucket) {
+        return ratio(counts[bucket], engagements[bucket], followers[bucket]);
+    }
+
+
+    /**
+     * Get ratios of every bucket
+     * 
+     * @return Array of Engagement/Follower ratios
+     */
+    public double[] getRatios() {
+
+        double[] ratios = new double[counts.length];
+
+        for (int i = 0; i < ratios.length; i++) {
+            ratios[i] = getRatio(i);
+        }
+
+        return ratios;
+    }
+
+
+    /**
+     * Calculate average Engagement/average Follower ratio
+     * 
+     * @param count
+     *            Number of Posts
+     * @param engages
+     *            Total Engagements
+     * @param follows
+     *            Total Followers
+     * @return Engagement/Follower ratio
+     */
+    public static double ratio(int count, long engages, long follows) {
+
+        double engageAvg = (double)engages / (double)count;
+        double followAvg = (double)follows / (double)count;
+
+        return engageAvg / followAvg;
+    }
+}
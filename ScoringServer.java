@@ -0,0 +1,634 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded localhost HTTP service that scores JSON or CSV batches of
+ * candidate Posts with the EngagementScorer a LiveScorer has in service
+ * (POST /score takes a JSON object or array of objects with "followers",
+ * "created", "type", and "description", or a Post CSV body sent as
+ * text/csv, and answers in the same format and charset, UTF-8 for JSON
+ * and windows-1252 for CSV unless the Content-Type names another;
+ * GET /health answers "ok"; each scored request uses one model, named by
+ * the X-Model-Version header)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class ScoringServer {
+
+    /* ScoringServer Values */
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_BODY = 4 << 20;
+
+    private static final String SCORE_PATH = "/score";
+    private static final String HEALTH_PATH = "/health";
+
+    private static final String JSON_TYPE = "application/json";
+    private static final String CSV_TYPE = "text/csv";
+    private static final String TEXT_TYPE = "text/plain";
+
+    private static final String VERSION_HEADER = "X-Model-Version";
+
+    private static final int OK = 200, BAD_REQUEST = 400,
+        METHOD_NOT_ALLOWED = 405, TOO_LARGE = 413, UNSUPPORTED_TYPE = 415,
+        SERVER_ERROR = 500;
+
+    private static final int BACKLOG = 1024;
+
+    private static final DateTimeFormatter CREATED_FORMAT = DateTimeFormatter
+        .ofPattern("yyyy-MM-dd HH:mm:ss");
+
+
+    /* ScoringServer Variables */
+
+    private LiveScorer live;
+    private int maxBody;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+
+    /* ScoringServer Constructors */
+
+    /**
+     * Construct a ScoringServer with the default body limit
+     * 
+     * @param s
+     *            Scorer for requests
+     */
+    public ScoringServer(EngagementScorer s) {
+        this(new LiveScorer(s), DEFAULT_MAX_BODY);
+    }
+
+
+    /**
+     * Construct a ScoringServer whose model can be swapped while serving
+     * 
+     * @param l
+     *            Holder of the scorer for requests
+     * @param max
+     *            Largest request body accepted, in bytes
+     */
+    public ScoringServer(LiveScorer l, int max) {
+        live = l;
+        maxBody = max;
+    }
+
+
+    /* ScoringServer Methods */
+
+    /**
+     * Train or load a model and serve it on localhost
+     * (Usage: [port], "business.model" is used if present)
+     * 
+     * @param args
+     *            Optional port, 0 picks a free one
+     */
+    public static void main(String[] args) {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0])
+            : DEFAULT_PORT;
+
+        Path modelFile = Paths.get("business.model");
+
+        ModelStatistics model;
+
+        try {
+            if (Files.exists(modelFile))
+                model = ModelFile.load(modelFile);
+            else
+                model = new StatFinder(new PostReader().readPostFile())
+                    .calculateAll();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        ScoringServer scoringServer = new ScoringServer(new EngagementScorer(
+            model));
+
+        try {
+            scoringServer.start(port);
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        System.out.println("Scoring on http://localhost:" + scoringServer
+            .getPort() + SCORE_PATH);
+    }
+
+
+    /**
+     * Start serving on the loopback address
+     * 
+     * @param port
+     *            Port to bind, 0 picks a free one
+     * @throws IOException
+     *             If port cannot be bound
+     */
+    public synchronized void start(int port) throws IOException {
+
+        if (server != null)
+            throw new IllegalStateException("Server already started");
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress
+            .getLoopbackAddress(), port), BACKLOG);
+
+        executor = makeExecutor();
+
+        server.setExecutor(executor);
+        server.createContext(SCORE_PATH, this::handleScore);
+        server.createContext(HEALTH_PATH, this::handleHealth);
+        server.start();
+    }
+
+
+    /**
+     * Stop serving, letting in-flight requests finish
+     * 
+     * @param delay
+     *            Most seconds to wait for in-flight requests
+     */
+    public synchronized void stop(int delay) {
+
+        if (server == null)
+            return;
+
+        server.stop(delay);
+        executor.shutdown();
+
+        server = null;
+        executor = null;
+    }
+
+
+    /**
+     * Get bound port
+     * 
+     * @return Port requests are served on
+     */
+    public synchronized int getPort() {
+
+        if (server == null)
+            throw new IllegalStateException("Server not started");
+
+        return server.getAddress().getPort();
+    }
+
+
+    /**
+     * Get holder of the scorer requests are served with, through which a
+     * retrained model is put into service
+     * 
+     * @return LiveScorer
+     */
+    public LiveScorer getLiveScorer() {
+        return live;
+    }
+
+
+    /**
+     * Make an executor running each exchange on a virtual thread when the
+     * JDK has them, otherwise on a cached pool of platform threads
+     * 
+     * @return Exchange executor
+     */
+    private static ExecutorService makeExecutor() {
+
+        try {
+            Method factory = Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor");
+
+            return (ExecutorService)factory.invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+
+    /**
+     * Answer GET /health
+     * 
+     * @param exchange
+     *            HTTP exchange
+     * @throws IOException
+     *             If response cannot be sent
+     */
+    private void handleHealth(HttpExchange exchange) throws IOException {
+
+        try {
+            if (!exchange.getRequestMethod().equals("GET"))
+                send(exchange, METHOD_NOT_ALLOWED, TEXT_TYPE, "Use GET");
+            else
+                send(exchange, OK, TEXT_TYPE, "ok");
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Answer POST /score
+     * 
+     * @param exchange
+     *            HTTP exchange
+     * @throws IOException
+     *             If response cannot be sent
+     */
+    private void handleScore(HttpExchange exchange) throws IOException {
+
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                send(exchange, METHOD_NOT_ALLOWED, TEXT_TYPE, "Use POST");
+                return;
+            }
+
+            String contentType = exchange.getRequestHeaders().getFirst(
+                "Content-Type");
+
+            String mediaType = contentType == null ? JSON_TYPE
+                : contentType.split(";", 2)[0].trim().toLowerCase();
+
+            Charset charset = getCharset(contentType, mediaType.equals(
+                CSV_TYPE) ? PostReader.CHARSET : StandardCharsets.UTF_8);
+
+            byte[] body = readBody(exchange.getRequestBody());
+
+            if (body == null)
+                send(exchange, TOO_LARGE, TEXT_TYPE, "Body over " + maxBody
+                    + " bytes");
+            else if (!mediaType.equals(JSON_TYPE) && !mediaType.equals(
+                CSV_TYPE))
+                send(exchange, UNSUPPORTED_TYPE, TEXT_TYPE, "Send "
+                    + JSON_TYPE + " or " + CSV_TYPE);
+            else if (charset == null)
+                send(exchange, UNSUPPORTED_TYPE, TEXT_TYPE,
+                    "Unsupported charset in " + contentType);
+            else {
+                // Whole request is scored by the model in service now
+                LiveScorer.Snapshot snapshot = live.getSnapshot();
+                EngagementScorer scorer = snapshot.getScorer();
+                String text = new String(body, charset);
+
+                String response = mediaType.equals(JSON_TYPE) ? scoreJson(
+                    scorer, text) : scoreCsv(scorer, text);
+
+                exchange.getResponseHeaders().set(VERSION_HEADER, Long
+                    .toString(snapshot.getVersion()));
+
+                send(exchange, OK, mediaType, charset, response);
+            }
+        }
+        catch (IllegalArgumentException | DateTimeException
+            | IndexOutOfBoundsException e) {
+            send(exchange, BAD_REQUEST, TEXT_TYPE, String.valueOf(e
+                .getMessage()));
+        }
+        catch (RuntimeException e) {
+            send(exchange, SERVER_ERROR, TEXT_TYPE, e.toString());
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Get the charset named by a Content-Type header
+     * 
+     * @param contentType
+     *            Content-Type header, may be null
+     * @param fallback
+     *            Charset when the header names none
+     * @return Named charset, fallback, or null if the named charset is not
+     *         supported or cannot encode a response
+     */
+    private static Charset getCharset(String contentType, Charset fallback) {
+
+        if (contentType == null)
+            return fallback;
+
+        for (String parameter : contentType.split(";")) {
+
+            String[] pair = parameter.split("=", 2);
+
+            if (pair.length < 2 || !pair[0].trim().equalsIgnoreCase(
+                "charset"))
+                continue;
+
+            String name = pair[1].trim();
+
+            if (name.length() > 1 && name.startsWith("\"") && name.endsWith(
+                "\""))
+                name = name.substring(1, name.length() - 1);
+
+            try {
+                Charset charset = Charset.forName(name);
+
+                return charset.canEncode() ? charset : null;
+            }
+            catch (IllegalArgumentException e) {
+                // Illegal or unsupported charset names
+                return null;
+            }
+        }
+
+        return fallback;
+    }
+
+
+    /**
+     * Read a request body up to the size limit
+     * 
+     * @param in
+     *            Request body stream
+     * @return Body bytes, or null if over the limit
+     * @throws IOException
+     *             If body cannot be read
+     */
+    private byte[] readBody(InputStream in) throws IOException {
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+
+        int read;
+
+        while ((read = in.read(chunk)) > 0) {
+
+            if (body.size() + read > maxBody)
+                return null;
+
+            body.write(chunk, 0, read);
+        }
+
+        return body.toByteArray();
+    }
+
+
+    /**
+     * Score a JSON object or array of objects
+     * 
+     * @param scorer
+     *            Scorer for request
+     * @param json
+     *            Request body
+     * @return JSON object holding an "estimates" array, in request order
+     * @throws IllegalArgumentException
+     *             If body is not valid JSON or a Post is malformed
+     */
+    private String scoreJson(EngagementScorer scorer, String json) {
+
+        Object parsed = JsonParser.parse(json);
+
+        List<?> candidates;
+
+        if (parsed instanceof List)
+            candidates = (List<?>)parsed;
+        else {
+            List<Object> single = new ArrayList<Object>(1);
+            single.add(parsed);
+            candidates = single;
+        }
+
+        StringBuilder response = new StringBuilder(16 + candidates.size()
+            * 8);
+
+        response.append("{\"estimates\":[");
+
+        for (int i = 0; i < candidates.size(); i++) {
+
+            if (!(candidates.get(i) instanceof Map))
+                throw new IllegalArgumentException("Post " + i
+                    + " is not an object");
+
+            if (i > 0)
+                response.append(',');
+
+            response.append(scoreCandidate(scorer, (Map<?, ?>)candidates
+                .get(i), i));
+        }
+
+        return response.append("]}").toString();
+    }
+
+
+    /**
+     * Score one JSON candidate Post
+     * 
+     * @param scorer
+     *            Scorer for request
+     * @param candidate
+     *            Parsed JSON object
+     * @param index
+     *            Position in request, for error messages
+     * @return Estimated Engagements
+     * @throws IllegalArgumentException
+     *             If a field is missing or malformed
+     */
+    private int scoreCandidate(
+        EngagementScorer scorer,
+        Map<?, ?> candidate,
+        int index) {
+
+        Object followers = candidate.get("followers");
+        Object created = candidate.get("created");
+        Object type = candidate.get("type");
+        Object description = candidate.get("description");
+
+        if (!(followers instanceof Long))
+            throw new IllegalArgumentException("Post " + index
+                + " needs integer \"followers\"");
+
+        if (!(created instanceof String))
+            throw new IllegalArgumentException("Post " + index
+                + " needs \"created\" as \"yyyy-MM-dd HH:mm:ss\"");
+
+        if (type != null && !(type instanceof String))
+            throw new IllegalArgumentException("Post " + index
+                + " has a non-string \"type\"");
+
+        if (description != null && !(description instanceof String))
+            throw new IllegalArgumentException("Post " + index
+                + " has a non-string \"description\"");
+
+        long count = (Long)followers;
+
+        if (count < 0 || count > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Post " + index
+                + " has out of range \"followers\"");
+
+        return scorer.score((int)count, parseCreated((String)created, index),
+            getPostType((String)type), description == null ? ""
+                : (String)description);
+    }
+
+
+    /**
+     * Parse a "yyyy-MM-dd HH:mm:ss" Date/Time, ignoring any zone after it
+     * 
+     * @param created
+     *            Date/Time text
+     * @param index
+     *            Position in request, for error messages
+     * @return LocalDateTime value
+     */
+    private LocalDateTime parseCreated(String created, int index) {
+
+        try {
+            return LocalDateTime.parse(created.length() > 19 ? created
+                .substring(0, 19) : created, CREATED_FORMAT);
+        }
+        catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Post " + index
+                + " has bad \"created\" " + created);
+        }
+    }
+
+
+    /**
+     * Get Post Type for a JSON "type" value
+     * 
+     * @param type
+     *            Type text, may be null
+     * @return Post Type, POST_NULL if unknown
+     */
+    private PostType getPostType(String type) {
+
+        if (type == null)
+            return PostType.POST_NULL;
+
+        for (PostType postType : PostType.values()) {
+            if (postType.toString().equalsIgnoreCase(type))
+                return postType;
+        }
+
+        return PostType.POST_NULL;
+    }
+
+
+    /**
+     * Score a Post CSV body
+     * 
+     * @param scorer
+     *            Scorer for request
+     * @param csv
+     *            Request body in PostReader's format
+     * @return Post CSV with estimated Engagements
+     * @throws IllegalArgumentException
+     *             If CSV cannot be read or a Post is malformed
+     */
+    private String scoreCsv(EngagementScorer scorer, String csv) {
+
+        StringWriter response = new StringWriter(csv.length() + 64);
+
+        try (PostReader.PostSource source = new PostReader().openPosts(
+            new StringReader(csv), false);
+            PostCsvWriter writer = new PostCsvWriter(response)) {
+
+            writer.writeHeader();
+
+            Post post;
+
+            while ((post = source.next()) != null) {
+                writer.writePost(post, scorer.score(post));
+            }
+        }
+        catch (IOException e) {
+            // Nothing here touches the network, so this is a bad body
+            throw new IllegalArgumentException("Bad CSV: " + e.getMessage(),
+                e);
+        }
+
+        return response.toString();
+    }
+
+
+    /**
+     * Send a complete UTF-8 response
+     * 
+     * @param exchange
+     *            HTTP exchange
+     * @param status
+     *            HTTP status code
+     * @param contentType
+     *            Response media type
+     * @param body
+     *            Response text
+     * @throws IOException
+     *             If response cannot be sent
+     */
+    private static void send(
+        HttpExchange exchange,
+        int status,
+        String contentType,
+        String body) throws IOException {
+        send(exchange, status, contentType, StandardCharsets.UTF_8, body);
+    }
+
+
+    /**
+     * Send a complete response
+     * 
+     * @param exchange
+     *            HTTP exchange
+     * @param status
+     *            HTTP status code
+     * @param contentType
+     *            Response media type
+     * @param charset
+     *            Response charset
+     * @param body
+     *            Response text
+     * @throws IOException
+     *             If response cannot be sent
+     */
+    private static void send(
+        HttpExchange exchange,
+        int status,
+        String contentType,
+        Charset charset,
+        String body) throws IOException {
+
+        byte[] bytes = body.getBytes(charset);
+
+        exchange.getResponseHeaders().set("Content-Type", contentType
+            + "; charset=" + charset.name());
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Scores a Post file into an output file through four overlapping stages
+ * joined by bounded queues: parse, tokenize, score, and write
+ * (Tokenize and score run on any number of workers, batches are numbered
+ * when parsed and written back in file order)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class StagedPipeline {
+
+    /* StagedPipeline Values */
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    // Marks the end of the Post file in every queue
+    private static final Batch END = new Batch(-1, new ArrayList<Post>(0));
+
+
+    /* StagedPipeline Variables */
+
+    private ModelStatistics model;
+
+    private int tokenizeWorkers;
+    private int scoreWorkers;
+    private int batchSize;
+    private int queueCapacity;
+
+
+    /* StagedPipeline Constructors */
+
+    /**
+     * Construct a StagedPipeline splitting the available processors
+     * between the tokenize and score stages
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     */
+    public StagedPipeline(ModelStatistics m) {
+        this(m, Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+
+    /**
+     * Construct a StagedPipeline
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     * @param tokenizers
+     *            Number of tokenize stage workers
+     * @param scorers
+     *            Number of score stage workers
+     * @param size
+     *            Posts per batch
+     * @param capacity
+     *            Capacity of each queue between stages, in batches
+     */
+    public StagedPipeline(
+        ModelStatistics m,
+        int tokenizers,
+        int scorers,
+        int size,
+        int capacity) {
+
+        model = m;
+        tokenizeWorkers = Math.max(tokenizers, 1);
+        scoreWorkers = Math.max(scorers, 1);
+        batchSize = Math.max(size, 1);
+        queueCapacity = Math.max(capacity, 1);
+    }
+
+
+    /* StagedPipeline Methods */
+
+    /**
+     * Score every Post of a file and write them, in file order, with their
+     * estimates
+     * 
+     * @param in
+     *            Post CSV file to read
+     * @param out
+     *            Post CSV file to write
+     * @param hasEngagements
+     *            If the input Engagements column holds known values
+     * @return Number of Posts written
+     * @throws IOException
+     *             If any stage fails, or the thread is interrupted
+     * @throws Error
+     *             If a stage fails with an Error (e.g. OutOfMemoryError),
+     *             after every stage has stopped
+     */
+    public long run(Path in, Path out, boolean hasEngagements)
+        throws IOException {
+
+        BlockingQueue<Batch> parsed = new ArrayBlockingQueue<Batch>(
+            queueCapacity);
+        BlockingQueue<Batch> tokenized = new ArrayBlockingQueue<Batch>(
+            queueCapacity);
+        BlockingQueue<Batch> scored = new ArrayBlockingQueue<Batch>(
+            queueCapacity);
+
+        // Batches parsed but not yet written, bounds the writer's reordering
+        Semaphore inFlight = new Semaphore(3 * queueCapacity + tokenizeWorkers
+            + scoreWorkers + 2);
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        long[] written = new long[1];
+
+        ExecutorService workers = Executors.newFixedThreadPool(2
+            + tokenizeWorkers + scoreWorkers);
+
+        try (PostReader.PostSource source = new PostReader().openPosts(in,
+            hasEngagements); PostCsvWriter writer = new PostCsvWriter(out)) {
+
+            submit(workers, failure, () -> parse(source, parsed, inFlight));
+
+            AtomicInteger tokenizersLeft = new AtomicInteger(tokenizeWorkers);
+
+            for (int i = 0; i < tokenizeWorkers; i++) {
+                submit(workers, failure, () -> transform(parsed, tokenized,
+                    tokenizersLeft, false));
+            }
+
+            AtomicInteger scorersLeft = new AtomicInteger(scoreWorkers);
+
+            for (int i = 0; i < scoreWorkers; i++) {
+                submit(workers, failure, () -> transform(tokenized, scored,
+                    scorersLeft, true));
+            }
+
+            submit(workers, failure, () -> written[0] = write(writer, scored,
+                inFlight));
+
+            workers.shutdown();
+
+            awaitQuietly(workers);
+        }
+        finally {
+            workers.shutdownNow();
+        }
+
+        Throwable failed = failure.get();
+
+        if (failed instanceof Error)
+            throw (Error)failed;
+
+        if (failed != null)
+            throw new IOException(failed);
+
+        return written[0];
+    }
+
+
+    /**
+     * Parse stage, reads numbered batches of Posts
+     * 
+     * @param source
+     *            Posts to read
+     * @param parsed
+     *            Queue of parsed batches
+     * @param inFlight
+     *            Permits for batches not yet written
+     * @throws Exception
+     *             If reading fails or the stage is interrupted
+     */
+    private void parse(
+        PostReader.PostSource source,
+        BlockingQueue<Batch> parsed,
+        Semaphore inFlight) throws Exception {
+
+        long sequence = 0;
+
+        while (true) {
+
+            inFlight.acquire();
+
+            List<Post> posts = new ArrayList<Post>(batchSize);
+
+            if (source.nextBatch(posts, batchSize) == 0)
+                break;
+
+            parsed.put(new Batch(sequence++, posts));
+        }
+
+        parsed.put(END);
+    }
+
+
+    /**
+     * Tokenize or score stage worker
+     * (END is put back for the other workers of the stage, and the last
+     * worker to see it passes it on)
+     * 
+     * @param input
+     *            Queue to take batches from
+     * @param output
+     *            Queue to put finished batches on
+     * @param workersLeft
+     *            Workers of this stage still running
+     * @param score
+     *            If this worker scores, otherwise it tokenizes
+     * @throws InterruptedException
+     *             If the stage is interrupted
+     */
+    private void transform(
+        BlockingQueue<Batch> input,
+        BlockingQueue<Batch> output,
+        AtomicInteger workersLeft,
+        boolean score) throws InterruptedException {
+
+        while (true) {
+
+            Batch batch = input.take();
+
+            if (batch == END) {
+
+                input.put(END);
+
+                if (workersLeft.decrementAndGet() == 0)
+                    output.put(END);
+
+                return;
+            }
+
+            if (score)
+                batch.score(model);
+            else
+                batch.tokenize();
+
+            output.put(batch);
+        }
+    }
+
+
+    /**
+     * Write stage, writes batches in sequence order as they arrive
+     * 
+     * @param writer
+     *            Output writer
+     * @param scored
+     *            Queue of scored batches
+     * @param inFlight
+     *            Permits for batches not yet written
+     * @return Number of Posts written
+     * @throws Exception
+     *             If writing fails or the stage is interrupted
+     */
+    private long write(
+        PostCsvWriter writer,
+        BlockingQueue<Batch> scored,
+        Semaphore inFlight) throws Exception {
+
+        PriorityQueue<Batch> waiting = new PriorityQueue<Batch>();
+
+        long next = 0;
+        long written = 0;
+
+        writer.writeHeader();
+
+        while (true) {
+
+            Batch batch = scored.take();
+
+            if (batch == END)
+                break;
+
+            waiting.add(batch);
+
+            while (!waiting.isEmpty() && waiting.peek().sequence == next) {
+
+                Batch ready = waiting.poll();
+
+                for (int i = 0; i < ready.posts.size(); i++) {
+                    writer.writePost(ready.posts.get(i), ready.estimates[i]);
+                }
+
+                written += ready.posts.size();
+                next++;
+
+                inFlight.release();
+            }
+        }
+
+        writer.flush();
+
+        return written;
+    }
+
+
+    /**
+     * Run a stage, stopping every stage if it fails in any way
+     * (Stages blocked on a queue are interrupted, since END will never
+     * reach them)
+     * 
+     * @param workers
+     *            Stage threads
+     * @param failure
+     *            Set to the first failure
+     * @param stage
+     *            Stage to run
+     */
+    private static void submit(
+        ExecutorService workers,
+        AtomicReference<Throwable> failure,
+        Stage stage) {
+
+        try {
+            workers.execute(() -> {
+                try {
+                    stage.run();
+                }
+                catch (Throwable t) {
+
+                    // Interrupts of other stages follow the first failure
+                    if (failure.compareAndSet(null, t))
+                        workers.shutdownNow();
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+
+            // An earlier stage already failed and stopped the workers
+            if (failure.get() == null)
+                throw e;
+        }
+    }
+
+
+    /**
+     * Wait for every stage to finish, keeping this thread's interrupt
+     * status
+     * 
+     * @param workers
+     *            Stage threads
+     */
+    private static void awaitQuietly(ExecutorService workers) {
+
+        boolean interrupted = false;
+
+        while (!workers.isTerminated()) {
+            try {
+                workers.awaitTermination(1, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+                workers.shutdownNow();
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+
+    /**
+     * Body of a pipeline stage
+     */
+    private interface Stage {
+
+        /**
+         * Run stage until END
+         * 
+         * @throws Exception
+         *             If stage fails
+         */
+        void run() throws Exception;
+    }
+
+
+    /**
+     * Numbered batch of Posts and their estimates
+     */
+    private static class Batch implements Comparable<Batch> {
+
+        private long sequence;
+        private List<Post> posts;
+        private int[] estimates;
+
+
+        /**
+         * Construct a Batch
+         * 
+         * @param seq
+         *            Position of batch in file
+         * @param p
+         *            Posts of batch
+         */
+        private Batch(long seq, List<Post> p) {
+            sequence = seq;
+            posts = p;
+        }
+
+
+        /**
+         * Find known keyword IDs of every Post
+         */
+        private void tokenize() {
+            for (Post post : posts) {
+                post.getKnownKeywordIds();
+            }
+        }
+
+
+        /**
+         * Estimate Engagements of every Post
+         * 
+         * @param model
+         *            ModelStatistics calculated from training set
+         */
+        private void score(ModelStatistics model) {
+
+            estimates = new int[posts.size()];
+
+            for (int i = 0; i < estimates.length; i++) {
+                estimates[i] = posts.get(i).predictEngages(model);
+            }
+        }
+
+
+        @Override
+        public int compareTo(Batch other) {
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package business;
+
+import java.time.LocalDateTime;
+
+/**
+ * Collects hour, day of week, month, Post Type, and keyword totals for
+ * every Post in a single pass
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class StatAccumulator {
+
+    /* StatAccumulator Variables */
+
+    private RatioTable hourTotals;
+    private RatioTable dayTotals;
+    private RatioTable monthTotals;
+    private RatioTable typeTotals;
+
+    private KeywordMap keywordMap;
+
+
+    /* StatAccumulator Constructor */
+
+    /**
+     * Construct an empty StatAccumulator
+     */
+    public StatAccumulator() {
+        hourTotals = new RatioTable(ModelStatistics.HOURS);
+        dayTotals = new RatioTable(ModelStatistics.DAYS_OF_WEEK);
+        monthTotals = new RatioTable(ModelStatistics.MONTHS);
+        typeTotals = new RatioTable(ModelStatistics.NUM_TYPES);
+
+        keywordMap = new KeywordMap();
+    }
+
+
+    /* StatAccumulator Methods */
+
+    /**
+     * Add a Post to every dimension
+     * 
+     * @param post
+     *            Post to add
+     */
+    public void add(Post post) {
+
+        int engages = post.getEngagements();
+        int follows = post.getFollowers();
+
+        LocalDateTime dateTime = post.getDateTime();
+
+        hourTotals.add(dateTime.getHour(), engages, follows);
+        dayTotals.add(ModelStatistics.dayIndex(dateTime.getDayOfWeek()),
+            engages, follows);
+        monthTotals.add(dateTime.getMonthValue() - 1, engages, follows);
+
+        int type = ModelStatistics.typeIndex(post.getPostType());
+
+        if (type >= 0)
+            typeTotals.add(type, engages, follows);
+
+        keywordMap.addPost(post);
+    }
+
+
+    /**
+     * Merge totals of another StatAccumulator into this one
+     * (Merging is associative, so partial StatAccumulators built over
+     * slices of Posts can be combined in any grouping)
+     * 
+     * @param other
+     *            StatAccumulator to merge in
+     * @return This StatAccumulator
+     */
+    public StatAccumulator merge(StatAccumulator other) {
+
+        hourTotals.merge(other.hourTotals);
+        dayTotals.merge(other.dayTotals);
+        monthTotals.merge(other.monthTotals);
+        typeTotals.merge(other.typeTotals);
+
+        keywordMap.merge(other.keywordMap);
+
+        return this;
+    }
+
+
+    /**
+     * Get KeywordMap filled so far
+     * 
+     * @return KeywordMap
+     */
+    public KeywordMap getKeywordMap() {
+        return keywordMap;
+    }
+
+
+    /**
+     * Make ModelStatistics from the totals so far
+     * 
+     * @return Calculated ModelStatistics
+     */
+    public ModelStatistics toStatistics() {
+        return new ModelStatistics(hourTotals.getRatios(), dayTotals
+            .getRatios(), monthTotals.getRatios(), typeTotals.getRatios(),
+            keywordMap.getRatios());
+    }
+}
@@ -1,7 +1,8 @@
 package business;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
 // import java.text.DecimalFormat;
 
 /**
@@ -15,12 +16,10 @@ public class StatFinder {
 
     /* StatFinder Values */
 
-    private final int SUN = 0, MON = 1, TUE = 2, WED = 3, THU = 4, FRI = 5,
-        SAT = 6;
-    private final int DAYS_OF_WEEK = 7;
-
-    private final int PHO = 0, ALB = 1, VID = 2;
-    private final int NUM_TYPES = 3;
+    private final int DAYS_OF_WEEK = ModelStatistics.DAYS_OF_WEEK;
+    private final int NUM_TYPES = ModelStatistics.NUM_TYPES;
+    private final int HOURS = ModelStatistics.HOURS;
+    private final int MONTHS = ModelStatistics.MONTHS;
 
     /* StatFinder Variables */
 
@@ -29,6 +28,9 @@ public class StatFinder {
 
     private KeywordMap keywordMap;
 
+    // Running totals, made on first incremental update
+    private StatAccumulator running;
+
 
     /* StatFinder constructor */
 
@@ -49,249 +51,152 @@ public class StatFinder {
     /* StatFinder Methods */
 
     /**
-     * Make KeywordMap based on keywords in posts
+     * Calculate every ratio dimension in a single pass over the Posts
      * 
-     * @return Calculated KeywordMap
+     * @return Calculated ModelStatistics
      */
-    public KeywordMap calculateByKeyword() {
+    public ModelStatistics calculateAll() {
 
-        for (Post post : posts) {
+        StatAccumulator accumulator = new StatAccumulator();
 
-            ArrayList<String> keywords = post.hasKeywords();
-
-            if (keywords == null)
-                continue;
-
-            for (String key : keywords) {
-                keywordMap.handleKeyword(post, key);
-            }
+        for (Post post : posts) {
+            accumulator.add(post);
         }
 
-        return keywordMap;
+        return accumulator.toStatistics();
     }
 
 
     /**
-     * Make double array of ratios based on day of week posted
+     * Add newly arrived Posts to the running totals, so only the batch is
+     * read (the first call also reads the Posts StatFinder was made with)
      * 
-     * @return Array of calculated day of week ratios
+     * @param batch
+     *            New Posts with known Engagements
+     * @return ModelStatistics including batch
      */
-    public double[] calculateByDay() {
+    public synchronized ModelStatistics addPosts(List<Post> batch) {
 
-        // Init sizes
-        int[] daysCount = new int[DAYS_OF_WEEK];
-        BigInteger[] daysEngages = new BigInteger[DAYS_OF_WEEK];
-        BigInteger[] daysFollows = new BigInteger[DAYS_OF_WEEK];
-        // Init all to 0
-        for (int i = 0; i < DAYS_OF_WEEK; i++) {
-            daysCount[i] = 0;
-            daysEngages[i] = new BigInteger("0");
-            daysFollows[i] = new BigInteger("0");
-        }
-
-        for (Post post : posts) {
+        StatAccumulator totals = getRunningTotals();
 
-            switch (post.getDateTime().getDayOfWeek().name()) {
-                case "SUNDAY":
-                    daysCount[SUN]++;
-                    daysEngages[SUN] = daysEngages[SUN].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[SUN] = daysFollows[SUN].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "MONDAY":
-                    daysCount[MON]++;
-                    daysEngages[MON] = daysEngages[MON].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[MON] = daysFollows[MON].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "TUESDAY":
-                    daysCount[TUE]++;
-                    daysEngages[TUE] = daysEngages[TUE].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[TUE] = daysFollows[TUE].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "WEDNESDAY":
-                    daysCount[WED]++;
-                    daysEngages[WED] = daysEngages[WED].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[WED] = daysFollows[WED].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "THURSDAY":
-                    daysCount[THU]++;
-                    daysEngages[THU] = daysEngages[THU].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[THU] = daysFollows[THU].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "FRIDAY":
-                    daysCount[FRI]++;
-                    daysEngages[FRI] = daysEngages[FRI].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[FRI] = daysFollows[FRI].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case "SATURDAY":
-                    daysCount[SAT]++;
-                    daysEngages[SAT] = daysEngages[SAT].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    daysFollows[SAT] = daysFollows[SAT].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                default:
-                    break;
-            }
+        for (Post post : batch) {
+            totals.add(post);
         }
 
-        return makeDayAvgs(daysCount, daysEngages, daysFollows);
+        posts.addAll(batch);
+
+        return totals.toStatistics();
     }
 
 
     /**
-     * Make an array of averge day ratios
+     * Get ModelStatistics of every Post added so far
      * 
-     * @param count
-     *            Days count
-     * @param engages
-     *            Days engagements
-     * @param follows
-     *            Days followers
-     * @return Array of ratios by day
+     * @return Snapshot of current ModelStatistics
      */
-    private double[] makeDayAvgs(
-        int[] count,
-        BigInteger[] engages,
-        BigInteger[] follows) {
-
-        double[] dayAvgs = new double[7];
-
-        double sunEngagesAvg = engages[SUN].doubleValue() / (double)count[SUN];
-        double sunFollowsAvg = follows[SUN].doubleValue() / (double)count[SUN];
+    public synchronized ModelStatistics getStatistics() {
+        return getRunningTotals().toStatistics();
+    }
 
-        double sunRatio = sunEngagesAvg / sunFollowsAvg;
 
-        double monEngagesAvg = engages[MON].doubleValue() / (double)count[MON];
-        double monFollowsAvg = follows[MON].doubleValue() / (double)count[MON];
+    /**
+     * Get running totals, folding in the starting Posts on first use
+     * 
+     * @return Running StatAccumulator
+     */
+    private StatAccumulator getRunningTotals() {
 
-        double monRatio = monEngagesAvg / monFollowsAvg;
+        if (running == null) {
 
-        double tueEngagesAvg = engages[TUE].doubleValue() / (double)count[TUE];
-        double tueFollowsAvg = follows[TUE].doubleValue() / (double)count[TUE];
+            running = new StatAccumulator();
 
-        double tueRatio = tueEngagesAvg / tueFollowsAvg;
+            for (Post post : posts) {
+                running.add(post);
+            }
 
-        double wedEngagesAvg = engages[WED].doubleValue() / (double)count[WED];
-        double wedFollowsAvg = follows[WED].doubleValue() / (double)count[WED];
+            // Later batches are appended to a list of StatFinder's own
+            posts = new ArrayList<Post>(posts);
+        }
 
-        double wedRatio = wedEngagesAvg / wedFollowsAvg;
+        return running;
+    }
 
-        double thuEngagesAvg = engages[THU].doubleValue() / (double)count[THU];
-        double thuFollowsAvg = follows[THU].doubleValue() / (double)count[THU];
 
-        double thuRatio = thuEngagesAvg / thuFollowsAvg;
+    /**
+     * Calculate every ratio dimension with a parallel stream, each worker
+     * filling a partial StatAccumulator over its slice of Posts
+     * 
+     * @return Calculated ModelStatistics
+     */
+    public ModelStatistics calculateAllParallel() {
+        return posts.parallelStream().collect(toStatistics());
+    }
 
-        double friEngagesAvg = engages[FRI].doubleValue() / (double)count[FRI];
-        double friFollowsAvg = follows[FRI].doubleValue() / (double)count[FRI];
 
-        double friRatio = friEngagesAvg / friFollowsAvg;
+    /**
+     * Collector that builds ModelStatistics from a stream of Posts, usable
+     * by parallel streams
+     * 
+     * @return ModelStatistics Collector
+     */
+    public static Collector<Post, StatAccumulator, ModelStatistics>
+        toStatistics() {
+        return Collector.of(StatAccumulator::new, StatAccumulator::add,
+            StatAccumulator::merge, StatAccumulator::toStatistics,
+            Collector.Characteristics.UNORDERED);
+    }
 
-        double satEngagesAvg = engages[SAT].doubleValue() / (double)count[SAT];
-        double satFollowsAvg = follows[SAT].doubleValue() / (double)count[SAT];
 
-        double satRatio = satEngagesAvg / satFollowsAvg;
+    /**
+     * Make KeywordMap based on keywords in posts
+     * 
+     * @return Calculated KeywordMap
+     */
+    public KeywordMap calculateByKeyword() {
 
-        dayAvgs[SUN] = sunRatio;
-        dayAvgs[MON] = monRatio;
-        dayAvgs[TUE] = tueRatio;
-        dayAvgs[WED] = wedRatio;
-        dayAvgs[THU] = thuRatio;
-        dayAvgs[FRI] = friRatio;
-        dayAvgs[SAT] = satRatio;
+        keywordMap.addPosts(posts);
 
-        return dayAvgs;
+        return keywordMap;
     }
 
 
     /**
-     * Make a double array of ratios based on Post Types
+     * Make double array of ratios based on day of week posted
      * 
-     * @return Array of calculated Post Type ratios
+     * @return Array of calculated day of week ratios
      */
-    public double[] calculateByType() {
+    public double[] calculateByDay() {
 
-        int[] typeCount = new int[NUM_TYPES];
-        BigInteger[] typeEngages = new BigInteger[NUM_TYPES];
-        BigInteger[] typeFollows = new BigInteger[NUM_TYPES];
-
-        for (int i = 0; i < NUM_TYPES; i++) {
-            typeCount[i] = 0;
-            typeEngages[i] = new BigInteger("0");
-            typeFollows[i] = new BigInteger("0");
-        }
+        RatioTable dayTotals = new RatioTable(DAYS_OF_WEEK);
 
         for (Post post : posts) {
-
-            switch (post.getPostType()) {
-                case PHOTO:
-                    typeCount[PHO]++;
-                    typeEngages[PHO] = typeEngages[PHO].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    typeFollows[PHO] = typeFollows[PHO].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case ALBUM:
-                    typeCount[ALB]++;
-                    typeEngages[ALB] = typeEngages[ALB].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    typeFollows[ALB] = typeFollows[ALB].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                case VIDEO:
-                    typeCount[VID]++;
-                    typeEngages[VID] = typeEngages[VID].add(new BigInteger(
-                        Integer.toString(post.getEngagements())));
-                    typeFollows[VID] = typeFollows[VID].add(new BigInteger(
-                        Integer.toString(post.getFollowers())));
-                    break;
-                default:
-                    break;
-            }
+            dayTotals.add(ModelStatistics.dayIndex(post.getDateTime()
+                .getDayOfWeek()), post.getEngagements(), post.getFollowers());
         }
 
-        return makeTypeAvgs(typeCount, typeEngages, typeFollows);
+        return dayTotals.getRatios();
     }
 
 
-    private double[] makeTypeAvgs(
-        int[] count,
-        BigInteger[] engages,
-        BigInteger[] follows) {
-
-        double[] typeAvgs = new double[3];
-
-        double phoEngageAvg = engages[PHO].doubleValue() / (double)count[PHO];
-        double phoFollowAvg = follows[PHO].doubleValue() / (double)count[PHO];
-
-        double phoRatio = phoEngageAvg / phoFollowAvg;
-
-        double albEngageAvg = engages[ALB].doubleValue() / (double)count[ALB];
-        double albFollowAvg = follows[ALB].doubleValue() / (double)count[ALB];
+    /**
+     * Make a double array of ratios based on Post Types
+     * 
+     * @return Array of calculated Post Type ratios
+     */
+    public double[] calculateByType() {
 
-        double albRatio = albEngageAvg / albFollowAvg;
+        RatioTable typeTotals = new RatioTable(NUM_TYPES);
 
-        double vidEngageAvg = engages[VID].doubleValue() / (double)count[VID];
-        double vidFollowAvg = follows[VID].doubleValue() / (double)count[VID];
+        for (Post post : posts) {
 
-        double vidRatio = vidEngageAvg / vidFollowAvg;
+            int type = ModelStatistics.typeIndex(post.getPostType());
 
-        typeAvgs[PHO] = phoRatio;
-        typeAvgs[ALB] = albRatio;
-        typeAvgs[VID] = vidRatio;
+            if (type >= 0)
+                typeTotals.add(type, post.getEngagements(), post
+                    .getFollowers());
+        }
 
-        return typeAvgs;
+        return typeTotals.getRatios();
     }
 
 
@@ -302,43 +207,14 @@ public class StatFinder {
      */
     public double[] calculateByHour() {
 
-        int[] hourCount = new int[24];
-        BigInteger[] hourEngages = new BigInteger[24];
-        BigInteger[] hourFollows = new BigInteger[24];
-
-        for (int i = 0; i < 24; i++) {
-            hourCount[i] = 0;
-            hourEngages[i] = new BigInteger("0");
-            hourFollows[i] = new BigInteger("0");
-        }
+        RatioTable hourTotals = new RatioTable(HOURS);
 
         for (Post post : posts) {
-
-            int hour = post.getDateTime().getHour();
-
-            hourCount[hour]++;
-            hourEngages[hour] = hourEngages[hour].add(new BigInteger(Integer
-                .toString(post.getEngagements())));
-            hourFollows[hour] = hourFollows[hour].add(new BigInteger(Integer
-                .toString(post.getFollowers())));
+            hourTotals.add(post.getDateTime().getHour(), post.getEngagements(),
+                post.getFollowers());
         }
 
-        double[] hourAvgs = new double[24];
-
-        for (int i = 0; i < 24; i++) {
-
-            double engageAvg = hourEngages[i].doubleValue()
-                / (double)hourCount[i];
-
-            double followAvg = hourFollows[i].doubleValue()
-                / (double)hourCount[i];
-
-            double ratio = engageAvg / followAvg;
-
-            hourAvgs[i] = ratio;
-        }
-
-        return hourAvgs;
+        return hourTotals.getRatios();
     }
 
 
@@ -349,42 +225,13 @@ public class StatFinder {
      */
     public double[] calculateByMonth() {
 
-        int[] monthCount = new int[12];
-        BigInteger[] monthEngages = new BigInteger[12];
-        BigInteger[] monthFollows = new BigInteger[12];
-
-        for (int i = 0; i < 12; i++) {
-            monthCount[i] = 0;
-            monthEngages[i] = new BigInteger("0");
-            monthFollows[i] = new BigInteger("0");
-        }
+        RatioTable monthTotals = new RatioTable(MONTHS);
 
         for (Post post : posts) {
-
-            int month = post.getDateTime().getMonthValue() - 1;
-
-            monthCount[month]++;
-            monthEngages[month] = monthEngages[month].add(new BigInteger(Integer
-                .toString(post.getEngagements())));
-            monthFollows[month] = monthFollows[month].add(new BigInteger(Integer
-                .toString(post.getFollowers())));
-        }
-
-        double[] monthAvgs = new double[12];
-
-        for (int i = 0; i < 12; i++) {
-
-            double engageAvg = monthEngages[i].doubleValue()
-                / (double)monthCount[i];
-
-            double followAvg = monthFollows[i].doubleValue()
-                / (double)monthCount[i];
-
-            double ratio = engageAvg / followAvg;
-
-            monthAvgs[i] = ratio;
+            monthTotals.add(post.getDateTime().getMonthValue() - 1, post
+                .getEngagements(), post.getFollowers());
         }
 
-        return monthAvgs;
+        return monthTotals.getRatios();
     }
 }
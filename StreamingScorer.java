@@ -0,0 +1,221 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Scores a Post file into an output file without holding it in memory
+ * (A reader thread parses bounded batches of Posts into a bounded queue,
+ * blocking when the queue is full, while the calling thread scores and
+ * writes each batch; keywords are only looked up in the KeywordDictionary,
+ * never added, so heap stays constant however many distinct keywords the
+ * file holds)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class StreamingScorer {
+
+    /* StreamingScorer Values */
+
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    // Marks the end of the Post file in the queue
+    private static final List<Post> END = new ArrayList<Post>(0);
+
+
+    /* StreamingScorer Variables */
+
+    private ModelStatistics model;
+    private BatchScorer batchScorer;
+
+    private int batchSize;
+    private int queueCapacity;
+
+
+    /* StreamingScorer Constructors */
+
+    /**
+     * Construct a StreamingScorer with default batch and queue sizes
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     */
+    public StreamingScorer(ModelStatistics m) {
+        this(m, new BatchScorer(), DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+
+    /**
+     * Construct a StreamingScorer
+     * (At most (capacity + 3) * size Posts are held at once: the queued
+     * batches, the batch being read, and the batch being written)
+     * 
+     * @param m
+     *            ModelStatistics calculated from training set
+     * @param scorer
+     *            BatchScorer to score each batch with
+     * @param size
+     *            Posts per batch
+     * @param capacity
+     *            Batches read ahead of the scorer
+     */
+    public StreamingScorer(
+        ModelStatistics m,
+        BatchScorer scorer,
+        int size,
+        int capacity) {
+
+        model = m;
+        batchScorer = scorer;
+        batchSize = Math.max(size, 1);
+        queueCapacity = Math.max(capacity, 1);
+    }
+
+
+    /* StreamingScorer Methods */
+
+    /**
+     * Score every Post of a file and write them with their estimates
+     * 
+     * @param in
+     *            Post CSV file to read
+     * @param out
+     *            Post CSV file to write
+     * @param hasEngagements
+     *            If the input Engagements column holds known values
+     * @return Number of Posts written
+     * @throws IOException
+     *             If reading or writing fails, or the thread is interrupted
+     */
+    public long score(Path in, Path out, boolean hasEngagements)
+        throws IOException {
+
+        BlockingQueue<List<Post>> queue = new ArrayBlockingQueue<List<Post>>(
+            queueCapacity);
+        AtomicReference<Exception> failure = new AtomicReference<Exception>();
+
+        long written = 0;
+
+        try (PostReader.PostSource source = new PostReader().openPosts(in,
+            hasEngagements); PostCsvWriter writer = new PostCsvWriter(out)) {
+
+            Thread reader = new Thread(() -> produce(source, queue, failure),
+                "StreamingScorer reader");
+
+            reader.setDaemon(true);
+            reader.start();
+
+            try {
+                writer.writeHeader();
+
+                int[] estimates = new int[batchSize];
+
+                while (true) {
+
+                    List<Post> batch = queue.take();
+
+                    if (batch == END)
+                        break;
+
+                    batchScorer.score(batch, model, estimates);
+
+                    for (int i = 0; i < batch.size(); i++) {
+                        writer.writePost(batch.get(i), estimates[i]);
+                    }
+
+                    written += batch.size();
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            finally {
+                // Unblock the reader if scoring stopped early
+                reader.interrupt();
+                joinQuietly(reader);
+            }
+        }
+
+        if (failure.get() != null)
+            throw new IOException(failure.get());
+
+        return written;
+    }
+
+
+    /**
+     * Read batches into the queue until the file ends or reading fails,
+     * then queue END
+     * 
+     * @param source
+     *            Posts to read
+     * @param queue
+     *            Queue of batches
+     * @param failure
+     *            Set to whatever stopped reading early
+     */
+    private void produce(
+        PostReader.PostSource source,
+        BlockingQueue<List<Post>> queue,
+        AtomicReference<Exception> failure) {
+
+        try {
+            while (true) {
+
+                List<Post> batch = new ArrayList<Post>(batchSize);
+
+                if (source.nextBatch(batch, batchSize) == 0)
+                    break;
+
+                queue.put(batch);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            failure.set(e);
+        }
+        catch (InterruptedException e) {
+            // Scorer has stopped, nobody is waiting for END
+            return;
+        }
+
+        try {
+            queue.put(END);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Wait for a thread to finish, keeping this thread's interrupt status
+     * 
+     * @param thread
+     *            Thread to wait for
+     */
+    private static void joinQuietly(Thread thread) {
+
+        boolean interrupted = false;
+
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+}
@@ -0,0 +1,286 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Searches for CriteriaWeights that minimize training set MAPE
+ * (Candidates are scored against a FeatureMatrix, so the Posts are only
+ * looked at once)
+ * 
+ * @author Kevin M. Smith <kmsmith3@vt.edu>
+ * @version October 17, 2026 <v1.0>
+ *
+ */
+public class WeightOptimizer {
+
+    /* WeightOptimizer Values */
+
+    private static final double MIN_WEIGHT = 1e-6;
+    private static final double MAX_WEIGHT = 10.0;
+
+    private static final double INITIAL_STEP = 0.5;
+    private static final double MIN_STEP = 1e-4;
+
+    private static final int DEFAULT_SAMPLES = 10000;
+    private static final long DEFAULT_SEED = 7;
+
+
+    /* WeightOptimizer Variables */
+
+    private ForkJoinPool pool;
+    private FeatureMatrix features;
+
+
+    /* WeightOptimizer Constructors */
+
+    /**
+     * Construct a WeightOptimizer on the common fork-join pool
+     * 
+     * @param posts
+     *            Training Posts with known Engagements
+     * @param model
+     *            ModelStatistics calculated from posts
+     */
+    public WeightOptimizer(List<Post> posts, ModelStatistics model) {
+        this(new FeatureMatrix(posts, model), ForkJoinPool.commonPool());
+    }
+
+
+    /**
+     * Construct a WeightOptimizer on a given pool
+     * 
+     * @param f
+     *            FeatureMatrix of training Posts
+     * @param p
+     *            Pool to evaluate candidates on
+     */
+    public WeightOptimizer(FeatureMatrix f, ForkJoinPool p) {
+        features = f;
+        pool = p;
+    }
+
+
+    /* WeightOptimizer Methods */
+
+    /**
+     * Main method, prints weights found for the training set
+     * 
+     * @param args
+     *            Optional number of random samples and seed
+     */
+    public static void main(String[] args) {
+
+        int samples = args.length > 0 ? Integer.parseInt(args[0])
+            : DEFAULT_SAMPLES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        ArrayList<Post> posts = new PostReader().readPostFile();
+        ModelStatistics model = new StatFinder(posts).calculateAll();
+
+        WeightOptimizer optimizer = new WeightOptimizer(posts, model);
+
+        long start = System.nanoTime();
+        CriteriaWeights best = optimizer.optimize(samples, seed);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Default: " + CriteriaWeights.DEFAULT);
+        System.out.println("MAPE: " + optimizer.evaluate(
+            CriteriaWeights.DEFAULT));
+        System.out.println("Optimized: " + best);
+        System.out.println("MAPE: " + optimizer.evaluate(best));
+        System.out.println("Time: " + (elapsed / 1000000) + " ms");
+    }
+
+
+    /**
+     * Get FeatureMatrix candidates are scored against
+     * 
+     * @return Training FeatureMatrix
+     */
+    public FeatureMatrix getFeatures() {
+        return features;
+    }
+
+
+    /**
+     * Calculate MAPE (as a percentage) of estimates made with given weights
+     * (Accumulated through ErrorMetrics, like every reported MAPE)
+     * 
+     * @param weights
+     *            Criteria weights to score
+     * @return MAPE over Posts with Engagements
+     */
+    public double evaluate(CriteriaWeights weights) {
+        return features.mape(weights);
+    }
+
+
+    /**
+     * Calculate MAPE of many candidates in parallel
+     * 
+     * @param candidates
+     *            Criteria weights to score
+     * @return MAPE of each candidate, in order
+     */
+    public double[] evaluateAll(List<CriteriaWeights> candidates) {
+
+        double[] mapes = new double[candidates.size()];
+
+        try {
+            pool.submit(() -> IntStream.range(0, mapes.length).parallel()
+                .forEach(i -> mapes[i] = evaluate(candidates.get(i)))).get();
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return mapes;
+    }
+
+
+    /**
+     * Random search followed by pattern search from the best sample
+     * 
+     * @param samples
+     *            Number of random candidates
+     * @param seed
+     *            Random seed, equal seeds give equal results
+     * @return Best weights found
+     */
+    public CriteriaWeights optimize(int samples, long seed) {
+        return patternSearch(randomSearch(samples, seed));
+    }
+
+
+    /**
+     * Score weights drawn log-uniformly between MIN_WEIGHT and MAX_WEIGHT
+     * (The default weights are always among the candidates)
+     * 
+     * @param samples
+     *            Number of random candidates
+     * @param seed
+     *            Random seed
+     * @return Best candidate
+     */
+    public CriteriaWeights randomSearch(int samples, long seed) {
+
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<CriteriaWeights> candidates = new ArrayList<CriteriaWeights>(
+            samples + 1);
+
+        candidates.add(CriteriaWeights.DEFAULT);
+
+        double logMin = Math.log(MIN_WEIGHT);
+        double logMax = Math.log(MAX_WEIGHT);
+
+        for (int i = 0; i < samples; i++) {
+
+            double[] weights = new double[CriteriaWeights.NUM_WEIGHTS];
+
+            for (int w = 0; w < weights.length; w++) {
+                weights[w] = Math.exp(random.nextDouble(logMin, logMax));
+            }
+
+            candidates.add(new CriteriaWeights(weights));
+        }
+
+        return best(candidates, evaluateAll(candidates));
+    }
+
+
+    /**
+     * Pattern search, each round scores every weight scaled up and down by
+     * the step in parallel and moves to the best, halving the step when
+     * nothing improves
+     * 
+     * @param start
+     *            Weights to start from
+     * @return Best weights found
+     */
+    public CriteriaWeights patternSearch(CriteriaWeights start) {
+
+        CriteriaWeights current = start;
+        double currentMAPE = evaluate(start);
+
+        double step = INITIAL_STEP;
+
+        while (step >= MIN_STEP) {
+
+            List<CriteriaWeights> neighbors = new ArrayList<CriteriaWeights>(
+                CriteriaWeights.NUM_WEIGHTS * 2);
+
+            double[] base = current.toArray();
+
+            for (int w = 0; w < base.length; w++) {
+
+                double[] up = base.clone();
+                double[] down = base.clone();
+
+                up[w] *= 1.0 + step;
+                down[w] /= 1.0 + step;
+
+                neighbors.add(new CriteriaWeights(up));
+                neighbors.add(new CriteriaWeights(down));
+            }
+
+            double[] mapes = evaluateAll(neighbors);
+            int bestIndex = bestIndex(mapes);
+
+            if (mapes[bestIndex] < currentMAPE) {
+                current = neighbors.get(bestIndex);
+                currentMAPE = mapes[bestIndex];
+            }
+            else
+                step /= 2;
+        }
+
+        return current;
+    }
+
+
+    /**
+     * Get candidate with lowest MAPE
+     * 
+     * @param candidates
+     *            Scored candidates
+     * @param mapes
+     *            MAPE of each candidate
+     * @return Best candidate
+     */
+    private static CriteriaWeights best(
+        List<CriteriaWeights> candidates,
+        double[] mapes) {
+
+        return candidates.get(bestIndex(mapes));
+    }
+
+
+    /**
+     * Get index of lowest MAPE, earliest wins ties
+     * 
+     * @param mapes
+     *            MAPE of each candidate
+     * @return Index of lowest MAPE
+     */
+    private static int bestIndex(double[] mapes) {
+
+        int best = 0;
+
+        for (int i = 1; i < mapes.length; i++) {
+            if (mapes[i] < mapes[best])
+                best = i;
+        }
+
+        return best;
+    }
+}